@@ -0,0 +1,113 @@
+package com.assignment.backend.benchmark;
+
+import com.assignment.backend.BackendApplication;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.service.CustomerService;
+import com.assignment.backend.service.impl.CustomerServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service calls through the real Spring context, against the in-memory H2 database configured in
+ * {@code src/test/resources/application.properties} (test classes precede main classes on the benchmark
+ * classpath). {@code cached} goes through the {@link CustomerService} bean including the cache decorator,
+ * {@code uncached} calls {@link CustomerServiceImpl} directly. Aspects and transactions are included.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerServiceBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"10000"})
+    public int customers;
+
+    private ConfigurableApplicationContext context;
+    private CustomerService cached;
+    private CustomerServiceImpl uncached;
+    private UUID[] ids;
+    private final AtomicLong created = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:service_benchmark;DB_CLOSE_DELAY=-1");
+        cached = context.getBean(CustomerService.class);
+        uncached = context.getBean(CustomerServiceImpl.class);
+
+        List<Customer> batch = new ArrayList<>();
+        for (int i = 0; i < customers; i++) {
+            batch.add(MappingBenchmark.Fixtures.customer(i).toBuilder().id(null).build());
+            if (batch.size() == 1000) {
+                cached.createCustomers(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            cached.createCustomers(batch);
+        }
+        ids = uncached.getCustomersPage(null, customers).stream().map(Customer::getId).toArray(UUID[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Customer> getByIdCached() {
+        return cached.getCustomerById(randomId());
+    }
+
+    @Benchmark
+    public Optional<Customer> getByIdUncached() {
+        return uncached.getCustomerById(randomId());
+    }
+
+    @Benchmark
+    public Optional<Customer> getByEmailUncached() {
+        return uncached.getCustomerByEmail("clark.kent" + ThreadLocalRandom.current().nextInt(customers) + "@example.com");
+    }
+
+    @Benchmark
+    public List<Customer> getPage() {
+        return uncached.getCustomersPage(randomId(), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Customer createCustomer() {
+        return cached.createCustomer(MappingBenchmark.Fixtures.customer(customers + (int) created.incrementAndGet())
+                .toBuilder().id(null).build());
+    }
+
+    private UUID randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,122 @@
+package com.assignment.backend.benchmark;
+
+import com.assignment.backend.BackendApplication;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.service.impl.CustomerServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ways to answer "does this customer exist", uncached, through the real Spring context on H2 like
+ * {@link CustomerServiceBenchmark}: loading the entity, reading only the version (what {@code HEAD} does for its
+ * {@code ETag}), {@code existsById}, and the batch check for {@value #BATCH_SIZE} IDs against as many single calls.
+ * Half of the checked IDs exist.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExistenceCheckBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"10000"})
+    public int customers;
+
+    private ConfigurableApplicationContext context;
+    private CustomerServiceImpl service;
+    private UUID[] ids;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:existence_benchmark;DB_CLOSE_DELAY=-1");
+        service = context.getBean(CustomerServiceImpl.class);
+
+        List<Customer> batch = new ArrayList<>();
+        for (int i = 0; i < customers; i++) {
+            batch.add(MappingBenchmark.Fixtures.customer(i).toBuilder().id(null).build());
+            if (batch.size() == 1000) {
+                service.createCustomers(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            service.createCustomers(batch);
+        }
+        List<UUID> known = new ArrayList<>(service.getCustomersPage(null, customers).stream().map(Customer::getId).toList());
+        for (int i = 0; i < customers; i++) {
+            known.add(UUID.randomUUID());
+        }
+        ids = known.toArray(UUID[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean loadEntity() {
+        return service.getCustomerById(randomId()).isPresent();
+    }
+
+    @Benchmark
+    public Optional<Long> readVersion() {
+        return service.getCustomerVersion(randomId());
+    }
+
+    @Benchmark
+    public boolean existsById() {
+        return service.existsById(randomId());
+    }
+
+    @Benchmark
+    public int existsByIdOneByOne() {
+        int found = 0;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            if (service.existsById(randomId())) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public Set<UUID> findExistingIdsBatch() {
+        List<UUID> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(randomId());
+        }
+        return service.findExistingIds(batch);
+    }
+
+    private UUID randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
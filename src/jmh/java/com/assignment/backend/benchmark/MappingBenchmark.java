@@ -0,0 +1,84 @@
+package com.assignment.backend.benchmark;
+
+import com.assignment.backend.dto.CustomerMapper;
+import com.assignment.backend.dto.CustomerRequestDTO;
+import com.assignment.backend.dto.CustomerResponseDTO;
+import com.assignment.backend.entity.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CustomerMapper} conversions for a single customer and for a full default page of {@link #PAGE_SIZE}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private CustomerRequestDTO request;
+    private Customer customer;
+    private List<Customer> page;
+
+    @Setup
+    public void setUp() {
+        request = Fixtures.request(0);
+        customer = Fixtures.customer(0);
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(Fixtures.customer(i));
+        }
+    }
+
+    @Benchmark
+    public Customer toEntity() {
+        return CustomerMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public CustomerResponseDTO toDTO() {
+        return CustomerMapper.toDTO(customer);
+    }
+
+    @Benchmark
+    public List<CustomerResponseDTO> toDTOPage() {
+        return page.stream().map(CustomerMapper::toDTO).toList();
+    }
+
+    /**
+     * Realistic customer values shared by the benchmarks.
+     */
+    static final class Fixtures {
+
+        static CustomerRequestDTO request(int n) {
+            return CustomerRequestDTO.builder()
+                    .givenName("Clark")
+                    .middleName("Joseph")
+                    .familyName("Kent")
+                    .emailAddress("clark.kent" + n + "@example.com")
+                    .contactNumber("+1234567" + String.format("%04d", n % 10_000))
+                    .build();
+        }
+
+        static Customer customer(int n) {
+            return CustomerMapper.toEntity(request(n)).toBuilder().id(UUID.randomUUID()).build();
+        }
+    }
+}
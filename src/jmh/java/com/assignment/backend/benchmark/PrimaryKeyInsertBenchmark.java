@@ -0,0 +1,116 @@
+package com.assignment.backend.benchmark;
+
+import com.assignment.backend.entity.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput into a table keyed like {@code customers}, with random (v4) and time-ordered (v7) IDs.
+ * The table is preloaded so the primary-key index is larger than the hot part of the buffer cache;
+ * one operation is one committed JDBC batch of {@link #BATCH_SIZE} rows.
+ * <p>
+ * Runs against in-memory H2 by default. Point it at PostgreSQL to also get the primary-key index size:
+ * {@code -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/customerdb} (and {@code benchmark.jdbc.user} /
+ * {@code benchmark.jdbc.password}, both defaulting to {@code postgres}); pass them through JMH with {@code -jvmArgs}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimaryKeyInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String TABLE = "pk_benchmark_customers";
+
+    @Param({"random", "timeOrdered"})
+    public String idStrategy;
+
+    @Param({"500000"})
+    public int preloadRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:pk_benchmark;DB_CLOSE_DELAY=-1");
+        connection = DriverManager.getConnection(url,
+                System.getProperty("benchmark.jdbc.user", url.startsWith("jdbc:h2") ? "sa" : "postgres"),
+                System.getProperty("benchmark.jdbc.password", url.startsWith("jdbc:h2") ? "" : "postgres"));
+        connection.setAutoCommit(false);
+        ids = "random".equals(idStrategy) ? UUID::randomUUID : TimeOrderedUuidGenerator::next;
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists " + TABLE);
+            statement.execute("create table " + TABLE + " (id uuid primary key, given_name varchar(255) not null,"
+                    + " family_name varchar(255) not null, email_address varchar(255) not null,"
+                    + " contact_number varchar(255) not null)");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("insert into " + TABLE
+                + " (id, given_name, family_name, email_address, contact_number) values (?, ?, ?, ?, ?)");
+        for (int loaded = 0; loaded < preloadRows; loaded += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @Benchmark
+    public int insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            long n = sequence++;
+            insert.setObject(1, ids.get());
+            insert.setString(2, "Given");
+            insert.setString(3, "Family");
+            insert.setString(4, "customer" + n + "@example.com");
+            insert.setString(5, "+1555" + (1000000 + n % 9000000));
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts.length;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if ("PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("select pg_relation_size('" + TABLE + "_pkey'),"
+                         + " pg_size_pretty(pg_relation_size('" + TABLE + "_pkey')), count(*) from " + TABLE)) {
+                rs.next();
+                System.out.printf("%n[%s] primary key index: %s (%d bytes, %.1f bytes/row over %d rows)%n",
+                        idStrategy, rs.getString(2), rs.getLong(1), rs.getLong(1) / (double) rs.getLong(3),
+                        rs.getLong(3));
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+}
@@ -0,0 +1,128 @@
+package com.assignment.backend.benchmark;
+
+import com.assignment.backend.BackendApplication;
+import com.assignment.backend.dto.CustomerMapper;
+import com.assignment.backend.dto.CustomerResponseDTO;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.repository.CustomerRepository;
+import com.assignment.backend.service.impl.CustomerServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * What the list and export endpoints pay per call: loading entities and mapping them with {@link CustomerMapper}
+ * against reading {@link CustomerResponseDTO}s directly through a constructor expression. Runs through the real
+ * Spring context on H2 like {@link CustomerServiceBenchmark}; use {@code -prof gc} to compare
+ * {@code gc.alloc.rate.norm}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectionBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"10000"})
+    public int customers;
+
+    private ConfigurableApplicationContext context;
+    private CustomerServiceImpl service;
+    private CustomerRepository repository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private UUID[] ids;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:projection_benchmark;DB_CLOSE_DELAY=-1");
+        service = context.getBean(CustomerServiceImpl.class);
+        repository = context.getBean(CustomerRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        List<Customer> batch = new ArrayList<>();
+        for (int i = 0; i < customers; i++) {
+            batch.add(MappingBenchmark.Fixtures.customer(i).toBuilder().id(null).build());
+            if (batch.size() == 1000) {
+                service.createCustomers(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            service.createCustomers(batch);
+        }
+        ids = service.getCustomersPage(null, customers).stream().map(Customer::getId).toArray(UUID[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CustomerResponseDTO> pageThroughEntities() {
+        return service.getCustomersPage(randomId(), PAGE_SIZE).stream()
+                .map(CustomerMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<CustomerResponseDTO> pageAsProjection() {
+        return service.getCustomerViewsPage(randomId(), PAGE_SIZE);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void exportThroughEntities(Blackhole blackhole) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Customer> customers = repository.streamAll()) {
+                customers.forEach(customer -> {
+                    blackhole.consume(CustomerMapper.toDTO(customer));
+                    entityManager.detach(customer);
+                });
+            }
+        });
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void exportAsProjection(Blackhole blackhole) {
+        service.exportCustomerViews(blackhole::consume);
+    }
+
+    private UUID randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,77 @@
+package com.assignment.backend.benchmark;
+
+import com.assignment.backend.dto.CustomerMapper;
+import com.assignment.backend.dto.CustomerRequestDTO;
+import com.assignment.backend.dto.CustomerResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson work per request, using an {@link ObjectMapper} configured the way Spring Boot configures the
+ * one behind the HTTP message converters: writing one {@link CustomerResponseDTO} and a page of
+ * {@link #PAGE_SIZE}, and reading a {@link CustomerRequestDTO} body.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private ObjectWriter responseWriter;
+    private ObjectWriter pageWriter;
+    private ObjectReader requestReader;
+    private CustomerResponseDTO response;
+    private List<CustomerResponseDTO> page;
+    private byte[] requestBody;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        responseWriter = mapper.writerFor(CustomerResponseDTO.class);
+        pageWriter = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, CustomerResponseDTO.class));
+        requestReader = mapper.readerFor(CustomerRequestDTO.class);
+
+        response = CustomerMapper.toDTO(MappingBenchmark.Fixtures.customer(0));
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(CustomerMapper.toDTO(MappingBenchmark.Fixtures.customer(i)));
+        }
+        requestBody = mapper.writeValueAsBytes(MappingBenchmark.Fixtures.request(0));
+    }
+
+    @Benchmark
+    public byte[] writeCustomer() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writePage() throws IOException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public CustomerRequestDTO readRequest() throws IOException {
+        return requestReader.readValue(requestBody);
+    }
+}
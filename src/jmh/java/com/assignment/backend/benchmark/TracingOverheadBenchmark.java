@@ -0,0 +1,143 @@
+package com.assignment.backend.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.assignment.backend.aop.TracingAspect;
+import com.assignment.backend.aop.TracingSettings;
+import com.assignment.backend.entity.Customer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.aspectj.MethodInvocationProceedingJoinPoint;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the tracing layer around a lookup returning one customer and a page of {@link #PAGE_SIZE}.
+ * {@code none} is an unadvised proxy; {@code legacy} reproduces the removed INFO-level logging aspect;
+ * {@code disabled} and {@code enabled} are {@link TracingAspect} switched off and on at the default sample rate.
+ * Logs go through a real Logback encoder into a discarding stream. Add {@code -prof gc} for allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TracingOverheadBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"none", "legacy", "disabled", "enabled"})
+    public String tracing;
+
+    private Lookup lookup;
+    private UUID id;
+
+    @Setup
+    public void setUp() {
+        discardLogs();
+        id = UUID.randomUUID();
+
+        ProxyFactory factory = new ProxyFactory(new Lookup());
+        factory.setProxyTargetClass(true);
+        switch (tracing) {
+            case "legacy" -> factory.addAdvice(legacyLogging());
+            case "disabled", "enabled" -> {
+                TracingAspect aspect = new TracingAspect(new SimpleMeterRegistry(),
+                        new TracingSettings("enabled".equals(tracing), 0.001, Duration.ofMillis(500)));
+                factory.addAdvice((MethodInterceptor) invocation ->
+                        aspect.trace(new MethodInvocationProceedingJoinPoint((ProxyMethodInvocation) invocation)));
+            }
+            default -> {
+            }
+        }
+        lookup = (Lookup) factory.getProxy();
+    }
+
+    @Benchmark
+    public Customer findOne() {
+        return lookup.findById(id);
+    }
+
+    @Benchmark
+    public List<Customer> findPage() {
+        return lookup.findPage(id, PAGE_SIZE);
+    }
+
+    /**
+     * The advice formerly applied by {@code LoggingAspect}: arguments and full result at INFO, before and after.
+     */
+    private static MethodInterceptor legacyLogging() {
+        org.slf4j.Logger log = LoggerFactory.getLogger("LoggingAspect");
+        return invocation -> {
+            log.info("Entering: {} with args: {}", invocation.getMethod(), Arrays.toString(invocation.getArguments()));
+            Object result = invocation.proceed();
+            log.info("Exiting: {} with result: {}", invocation.getMethod(), result);
+            return result;
+        };
+    }
+
+    private static void discardLogs() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %-5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+    }
+
+    public static class Lookup {
+
+        private final Customer customer = Customer.builder()
+                .id(UUID.randomUUID())
+                .givenName("Clark")
+                .familyName("Kent")
+                .emailAddress("clark.kent@example.com")
+                .contactNumber("+1234567899")
+                .build();
+
+        public Customer findById(UUID id) {
+            return customer;
+        }
+
+        public List<Customer> findPage(UUID after, int size) {
+            List<Customer> page = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                page.add(customer);
+            }
+            return page;
+        }
+    }
+}
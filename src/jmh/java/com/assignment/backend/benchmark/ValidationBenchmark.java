@@ -0,0 +1,75 @@
+package com.assignment.backend.benchmark;
+
+import com.assignment.backend.dto.CustomerRequestDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation of {@link CustomerRequestDTO} as done for every create, update and CSV row: a valid request,
+ * one failing every constraint (message interpolation included), and a worst-case contact number for the regex.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private CustomerRequestDTO valid;
+    private CustomerRequestDTO invalid;
+    private CustomerRequestDTO longContactNumber;
+
+    @Setup
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        valid = MappingBenchmark.Fixtures.request(0);
+        invalid = CustomerRequestDTO.builder()
+                .givenName(" ")
+                .middleName("M".repeat(60))
+                .emailAddress("not-an-email")
+                .contactNumber("0123")
+                .build();
+        longContactNumber = MappingBenchmark.Fixtures.request(0);
+        longContactNumber.setContactNumber("+1" + "2".repeat(200) + "x");
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerRequestDTO>> validRequest() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerRequestDTO>> invalidRequest() {
+        return validator.validate(invalid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerRequestDTO>> longContactNumber() {
+        return validator.validate(longContactNumber);
+    }
+}
@@ -0,0 +1,91 @@
+package com.assignment.backend.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Accepted results per workload, stored as properties ({@code READ_HEAVY.p99.ms=12.5}). A run regresses when a
+ * latency percentile or the error percentage rises, or the throughput falls, by more than the tolerance. A workload
+ * with a baseline but no stored error percentage is expected to have no errors. Workloads without a baseline are
+ * reported but never fail the run.
+ */
+final class Baseline {
+
+    private static final String[] LATENCIES = {"p50.ms", "p99.ms", "p999.ms"};
+
+    private final Properties values;
+
+    private Baseline(Properties values) {
+        this.values = values;
+    }
+
+    static Baseline load(Path file) throws IOException {
+        Properties values = new Properties();
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                values.load(reader);
+            }
+        }
+        return new Baseline(values);
+    }
+
+    /**
+     * @return one message per regressed value, empty when the result is within tolerance
+     */
+    List<String> regressions(WorkloadResult result, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        double[] measured = {result.p50Millis(), result.p99Millis(), result.p999Millis()};
+        for (int i = 0; i < LATENCIES.length; i++) {
+            String key = result.workload() + "." + LATENCIES[i];
+            String accepted = values.getProperty(key);
+            if (accepted != null && measured[i] > Double.parseDouble(accepted) * (1 + tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s: %.2f ms exceeds baseline %s ms", key, measured[i], accepted));
+            }
+        }
+
+        String key = result.workload() + ".throughput";
+        String accepted = values.getProperty(key);
+        if (accepted != null && result.throughput() < Double.parseDouble(accepted) * (1 - tolerance)) {
+            regressions.add(String.format(Locale.ROOT, "%s: %.1f req/s is below baseline %s req/s", key, result.throughput(), accepted));
+        }
+
+        if (accepted != null) {
+            String errorsKey = result.workload() + ".errors.percent";
+            double acceptedErrors = Double.parseDouble(values.getProperty(errorsKey, "0"));
+            if (result.errorPercent() > acceptedErrors * (1 + tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s: %d errors (%.2f %%) exceed baseline %.2f %%",
+                        errorsKey, result.errors(), result.errorPercent(), acceptedErrors));
+            }
+        }
+        return regressions;
+    }
+
+    void record(WorkloadResult result) {
+        String prefix = result.workload() + ".";
+        values.setProperty(prefix + "p50.ms", format(result.p50Millis()));
+        values.setProperty(prefix + "p99.ms", format(result.p99Millis()));
+        values.setProperty(prefix + "p999.ms", format(result.p999Millis()));
+        values.setProperty(prefix + "throughput", format(result.throughput()));
+        values.setProperty(prefix + "errors.percent", format(result.errorPercent()));
+    }
+
+    void store(Path file, String comment) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            values.store(writer, comment);
+        }
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
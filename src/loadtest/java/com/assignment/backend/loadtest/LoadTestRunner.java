@@ -0,0 +1,126 @@
+package com.assignment.backend.loadtest;
+
+import com.assignment.backend.BackendApplication;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.service.CustomerService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Starts the application on the in-memory H2 configuration from {@code src/test/resources}, seeds customers and
+ * drives each workload at a constant arrival rate over HTTP. Prints throughput and coordinated-omission-corrected
+ * latency percentiles, then compares them with the stored {@link Baseline} and exits with status 1 on a regression.
+ * <p>
+ * Run with {@code mvn -Ploadtest test-compile exec:exec -Dloadtest.args="rate=500 duration=60s"}; see the README
+ * for all options.
+ */
+public final class LoadTestRunner {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+        Baseline baseline = Baseline.load(settings.baseline());
+
+        List<WorkloadResult> results = new ArrayList<>();
+        try (ConfigurableApplicationContext context = start(settings)) {
+            CustomerService service = context.getBean(CustomerService.class);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            Workload.Target target = new Workload.Target(port, seed(service, settings.customers()));
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            OpenLoopLoadGenerator generator =
+                    new OpenLoopLoadGenerator(client, target, settings.rate(), settings.concurrency());
+            for (Workload workload : settings.workloads()) {
+                System.out.printf(Locale.ROOT, "Running %s at %d req/s, %s warmup, %s measured%n",
+                        workload, settings.rate(), settings.warmup(), settings.duration());
+                results.add(generator.run(workload, settings.warmup(), settings.duration()));
+            }
+        }
+
+        report(results);
+
+        if (settings.updateBaseline()) {
+            results.forEach(baseline::record);
+            baseline.store(settings.baseline(), "Accepted load-test results, rate=" + settings.rate()
+                    + " concurrency=" + settings.concurrency() + " duration=" + settings.duration());
+            System.out.println("Baseline written to " + settings.baseline());
+            return;
+        }
+
+        List<String> regressions = results.stream()
+                .flatMap(result -> baseline.regressions(result, settings.tolerance()).stream())
+                .toList();
+        if (!regressions.isEmpty()) {
+            System.out.printf(Locale.ROOT, "%nRegressions beyond %.0f %% of %s:%n", settings.tolerance() * 100, settings.baseline());
+            regressions.forEach(regression -> System.out.println("  " + regression));
+            System.exit(1);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestSettings settings) {
+        // DevTools is on the test classpath; its restart would run the application in a second class loader with the
+        // arguments applied twice, and a failed start there would still exit with status 0.
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        List<String> appArgs = Stream.concat(
+                Stream.of("--server.port=0", "--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1"),
+                settings.appArgs().stream()).toList();
+        return new SpringApplicationBuilder(BackendApplication.class).run(appArgs.toArray(String[]::new));
+    }
+
+    private static List<UUID> seed(CustomerService service, int customers) {
+        List<Customer> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int n = 0; n < customers; n++) {
+            batch.add(Customer.builder()
+                    .givenName("Load")
+                    .familyName("Customer")
+                    .emailAddress(Workload.Target.email(n))
+                    .contactNumber("+1555" + String.format("%07d", n))
+                    .build());
+            if (batch.size() == SEED_BATCH_SIZE || n == customers - 1) {
+                service.createCustomers(batch);
+                batch = new ArrayList<>(SEED_BATCH_SIZE);
+            }
+        }
+        // Read the IDs back through the keyset scan, which bypasses the lookup cache the workloads exercise.
+        Map<String, UUID> idsByEmail = new HashMap<>(customers * 2);
+        List<Customer> page = service.getCustomersPage(null, SEED_BATCH_SIZE);
+        while (!page.isEmpty()) {
+            page.forEach(customer -> idsByEmail.put(customer.getEmailAddress(), customer.getId()));
+            page = service.getCustomersPage(page.get(page.size() - 1).getId(), SEED_BATCH_SIZE);
+        }
+        List<UUID> ids = new ArrayList<>(customers);
+        for (int n = 0; n < customers; n++) {
+            ids.add(Objects.requireNonNull(idsByEmail.get(Workload.Target.email(n)), "Seeded customer missing: " + n));
+        }
+        return ids;
+    }
+
+    private static void report(List<WorkloadResult> results) {
+        System.out.printf(Locale.ROOT, "%n%-14s %9s %10s %8s %10s %9s %9s %9s %9s%n",
+                "Workload", "Offered/s", "Completed", "Errors", "Achieved/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (WorkloadResult result : results) {
+            System.out.printf(Locale.ROOT, "%-14s %9d %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    result.workload(), result.offeredRate(), result.completed(), result.errors(), result.throughput(),
+                    result.p50Millis(), result.p99Millis(), result.p999Millis(), result.maxMillis());
+        }
+    }
+}
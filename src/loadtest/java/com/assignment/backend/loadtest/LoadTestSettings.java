@@ -0,0 +1,88 @@
+package com.assignment.backend.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Options of a load-test run, parsed from {@code name=value} arguments. Arguments starting with {@code --}
+ * are not options of the suite; they are passed to the application, e.g. {@code --spring.threads.virtual.enabled=true}.
+ *
+ * @param workloads      workloads to run, in order
+ * @param rate           requests per second each workload is offered, independent of how fast responses come back
+ * @param concurrency    maximum requests in flight; when reached, further requests wait and the wait counts as latency
+ * @param warmup         time each workload runs before measuring starts
+ * @param duration       measured time per workload
+ * @param customers      customers seeded before the first workload
+ * @param baseline       properties file holding the accepted results
+ * @param tolerance      allowed relative regression against the baseline, e.g. {@code 0.2} for 20 %
+ * @param updateBaseline write this run's results to the baseline file instead of comparing against it
+ * @param appArgs        arguments passed to the application
+ */
+record LoadTestSettings(
+        List<Workload> workloads,
+        int rate,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int customers,
+        Path baseline,
+        double tolerance,
+        boolean updateBaseline,
+        List<String> appArgs) {
+
+    static final Path DEFAULT_BASELINE = Path.of("src/loadtest/resources/loadtest-baseline.properties");
+
+    static LoadTestSettings parse(String... args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                appArgs.add(arg);
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 1) {
+                throw new IllegalArgumentException("Expected name=value but got: " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestSettings settings = new LoadTestSettings(
+                parseWorkloads(options.remove("workloads")),
+                Integer.parseInt(options.getOrDefault("rate", "200")),
+                Integer.parseInt(options.getOrDefault("concurrency", "64")),
+                DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s")),
+                DurationStyle.detectAndParse(options.getOrDefault("duration", "30s")),
+                Integer.parseInt(options.getOrDefault("customers", "10000")),
+                Path.of(options.getOrDefault("baseline", DEFAULT_BASELINE.toString())),
+                Double.parseDouble(options.getOrDefault("tolerance", "0.2")),
+                Boolean.parseBoolean(options.getOrDefault("updateBaseline", "false")),
+                List.copyOf(appArgs));
+        options.keySet().removeAll(List.of("rate", "concurrency", "warmup", "duration", "customers",
+                "baseline", "tolerance", "updateBaseline"));
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        if (settings.rate < 1 || settings.concurrency < 1 || settings.customers < 1) {
+            throw new IllegalArgumentException("rate, concurrency and customers must be positive");
+        }
+        return settings;
+    }
+
+    private static List<Workload> parseWorkloads(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of(Workload.values());
+        }
+        return Arrays.stream(value.split(","))
+                .map(name -> Workload.valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_')))
+                .toList();
+    }
+}
@@ -0,0 +1,95 @@
+package com.assignment.backend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Offers requests at a constant arrival rate (open model): request {@code i} is due at {@code start + i / rate},
+ * whether or not earlier requests have completed. Latency is measured from that due time rather than from the
+ * moment the request was actually sent, which corrects for coordinated omission: when the server stalls, every
+ * request that should have been sent during the stall is charged the time it waited.
+ * <p>
+ * At most {@code concurrency} requests are in flight. A request that finds no free slot waits for one, and the
+ * wait is part of its latency.
+ * <p>
+ * Only successful requests are timed and counted as throughput. A request that fails or is answered with a 5xx
+ * status is counted as an error instead, so a server that fails fast cannot look faster than one that works.
+ * Throughput is measured until the last of them completed, so requests that drain after the measured window has
+ * ended lower it instead of being credited to the window.
+ */
+final class OpenLoopLoadGenerator {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final Workload.Target target;
+    private final int rate;
+    private final int concurrency;
+
+    OpenLoopLoadGenerator(HttpClient client, Workload.Target target, int rate, int concurrency) {
+        this.client = client;
+        this.target = target;
+        this.rate = rate;
+        this.concurrency = concurrency;
+    }
+
+    WorkloadResult run(Workload workload, Duration warmup, Duration duration) throws InterruptedException {
+        Histogram latencies = new ConcurrentHistogram(3);
+        AtomicLong errors = new AtomicLong();
+        AtomicLong lastCompleted = new AtomicLong();
+        Semaphore slots = new Semaphore(concurrency);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        double interval = TimeUnit.SECONDS.toNanos(1) / (double) rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long due = start + (long) (i * interval);
+            if (due - end >= 0) {
+                break;
+            }
+            parkUntil(due);
+            slots.acquire();
+
+            boolean measured = due - measureFrom >= 0;
+            client.sendAsync(workload.next(target, random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long now = System.nanoTime();
+                        long latency = now - due;
+                        slots.release();
+                        if (!measured) {
+                            return;
+                        }
+                        if (failure != null || response.statusCode() >= 500) {
+                            errors.incrementAndGet();
+                        } else {
+                            latencies.recordValue(latency);
+                            lastCompleted.accumulateAndGet(now - measureFrom, Math::max);
+                        }
+                    });
+        }
+
+        if (!slots.tryAcquire(concurrency, DRAIN_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS)) {
+            throw new IllegalStateException(workload + ": requests still in flight after " + DRAIN_TIMEOUT);
+        }
+        long elapsed = Math.max(duration.toNanos(), lastCompleted.get());
+        return WorkloadResult.of(workload, rate, latencies, errors.get(), elapsed / 1e9);
+    }
+
+    private static void parkUntil(long deadline) {
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.assignment.backend.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Request mixes offered to the API. Each call to {@link #next} draws one request according to the mix.
+ */
+enum Workload {
+
+    /**
+     * 80 % lookups by ID, 10 % lookups by email, 10 % full updates.
+     */
+    READ_HEAVY {
+        @Override
+        HttpRequest next(Target target, ThreadLocalRandom random) {
+            int roll = random.nextInt(100);
+            if (roll < 80) {
+                return target.getById(random);
+            }
+            return roll < 90 ? target.searchByEmail(random, true) : target.update(random);
+        }
+    },
+
+    /**
+     * 50 % creates, 30 % full updates, 20 % lookups by ID.
+     */
+    WRITE_HEAVY {
+        @Override
+        HttpRequest next(Target target, ThreadLocalRandom random) {
+            int roll = random.nextInt(100);
+            if (roll < 50) {
+                return target.create();
+            }
+            return roll < 80 ? target.update(random) : target.getById(random);
+        }
+    },
+
+    /**
+     * Email searches as issued by the signup flow: 90 % for existing customers, 10 % for unknown emails.
+     */
+    EMAIL_SEARCH {
+        @Override
+        HttpRequest next(Target target, ThreadLocalRandom random) {
+            return target.searchByEmail(random, random.nextInt(100) < 90);
+        }
+    };
+
+    abstract HttpRequest next(Target target, ThreadLocalRandom random);
+
+    /**
+     * The running application and the seeded customers the workloads address. Seeded customer {@code n}
+     * has ID {@code ids.get(n)} and email {@link #email(int)}.
+     */
+    static final class Target {
+
+        private static final String CUSTOMERS_PATH = "/api/v1.0/customers";
+
+        private final URI customers;
+        private final List<UUID> ids;
+        private final AtomicLong created = new AtomicLong();
+
+        Target(int port, List<UUID> ids) {
+            this.customers = URI.create("http://localhost:" + port + CUSTOMERS_PATH);
+            this.ids = ids;
+        }
+
+        static String email(int n) {
+            return "loadtest.customer" + n + "@example.com";
+        }
+
+        static String body(String email, int n) {
+            return "{\"givenName\":\"Load\",\"middleName\":\"Test\",\"familyName\":\"Customer\","
+                    + "\"emailAddress\":\"" + email + "\",\"contactNumber\":\"+1555" + String.format("%07d", n % 10_000_000) + "\"}";
+        }
+
+        HttpRequest getById(ThreadLocalRandom random) {
+            return HttpRequest.newBuilder(URI.create(customers + "/" + ids.get(random.nextInt(ids.size())))).GET().build();
+        }
+
+        HttpRequest searchByEmail(ThreadLocalRandom random, boolean existing) {
+            String email = existing ? email(random.nextInt(ids.size())) : "nobody." + UUID.randomUUID() + "@example.com";
+            return HttpRequest.newBuilder(URI.create(customers + "/search?email=" + URLEncoder.encode(email, StandardCharsets.UTF_8)))
+                    .GET()
+                    .build();
+        }
+
+        HttpRequest update(ThreadLocalRandom random) {
+            int n = random.nextInt(ids.size());
+            return HttpRequest.newBuilder(URI.create(customers + "/" + ids.get(n)))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(body(email(n), random.nextInt(10_000_000))))
+                    .build();
+        }
+
+        HttpRequest create() {
+            long n = created.incrementAndGet();
+            return HttpRequest.newBuilder(customers)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body("loadtest.new" + n + "@example.com", (int) n)))
+                    .build();
+        }
+    }
+}
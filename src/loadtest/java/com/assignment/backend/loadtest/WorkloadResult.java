@@ -0,0 +1,51 @@
+package com.assignment.backend.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measured outcome of one workload. Latencies are taken from each request's intended start time, so they
+ * include any time the request waited because the server or the client fell behind.
+ *
+ * @param completed  requests answered with a status below 500; only these are timed
+ * @param errors     requests that failed to complete or were answered with a 5xx status
+ * @param throughput completed requests per second, from the start of the measured window until the last one
+ *                   completed
+ */
+record WorkloadResult(
+        Workload workload,
+        int offeredRate,
+        long completed,
+        long errors,
+        double throughput,
+        double p50Millis,
+        double p99Millis,
+        double p999Millis,
+        double maxMillis) {
+
+    static WorkloadResult of(Workload workload, int offeredRate, Histogram latencies, long errors, double seconds) {
+        return new WorkloadResult(
+                workload,
+                offeredRate,
+                latencies.getTotalCount(),
+                errors,
+                latencies.getTotalCount() / seconds,
+                millis(latencies.getValueAtPercentile(50.0)),
+                millis(latencies.getValueAtPercentile(99.0)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+    }
+
+    /**
+     * Errors as a percentage of all measured requests.
+     */
+    double errorPercent() {
+        long total = completed + errors;
+        return total == 0 ? 0.0 : errors * 100.0 / total;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
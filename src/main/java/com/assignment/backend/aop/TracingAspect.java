@@ -0,0 +1,243 @@
+package com.assignment.backend.aop;
+
+import com.assignment.backend.exception.CustomerNotFoundException;
+import com.assignment.backend.exception.DuplicateEmailException;
+import com.assignment.backend.exception.PreconditionFailedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.ServletRequestBindingException;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every controller, service and repository call into the {@value #METRIC_NAME} timer, tagged with
+ * layer, class, method, exception and outcome ({@code SUCCESS}, {@code CLIENT_ERROR} or {@code SERVER_ERROR}).
+ * Arguments and results are only logged for sampled or slow calls (see {@link TracingSettings}), and then only
+ * as summaries: collections, maps and arrays are reduced to their type and size, other objects to their type name.
+ * The in-memory indexes in {@code com.assignment.backend.index} are not traced, because they are called once per
+ * email or row on the paths they exist to speed up.
+ * <p>
+ * Exceptions are not logged here; {@link com.assignment.backend.exception.GlobalExceptionHandler} logs them
+ * once per request instead of once per traced layer.
+ */
+@Slf4j
+@Aspect
+@Component
+public class TracingAspect {
+
+    public static final String METRIC_NAME = "app.method";
+
+    private static final String BASE_PACKAGE = "com.assignment.backend.";
+    private static final String NO_EXCEPTION = "none";
+    private static final int MAX_STRING_LENGTH = 64;
+
+    private final MeterRegistry registry;
+    private final TracingSettings settings;
+    private final Map<Class<?>, Map<Method, MethodMeters>> meters = new ConcurrentHashMap<>();
+
+    public TracingAspect(MeterRegistry registry, TracingSettings settings) {
+        this.registry = registry;
+        this.settings = settings;
+    }
+
+    @Pointcut("execution(* com.assignment.backend.service..*(..)) || " +
+            "execution(* com.assignment.backend.controller..*(..)) || " +
+            "execution(* com.assignment.backend.repository..*(..))")
+    public void applicationLayer() {
+    }
+
+    @Around("applicationLayer()")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!settings.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        long start = System.nanoTime();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            record(joinPoint, System.nanoTime() - start, result, failure);
+        }
+    }
+
+    private void record(ProceedingJoinPoint joinPoint, long elapsedNanos, Object result, Throwable failure) {
+        MethodMeters methodMeters = metersFor(joinPoint);
+        methodMeters.timer(failure).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        boolean slow = settings.isSlow(elapsedNanos);
+        if (slow || settings.shouldSample()) {
+            String outcome = failure != null ? "threw " + failure.getClass().getSimpleName() : "returned " + summarize(result);
+            String message = "{} {}.{} took {} ms, args: {}, {}";
+            Object[] arguments = {methodMeters.layer, methodMeters.className, methodMeters.methodName,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), summarizeArgs(joinPoint.getArgs()), outcome};
+            if (slow) {
+                log.warn("Slow call: " + message, arguments);
+            } else {
+                log.info("Sampled call: " + message, arguments);
+            }
+        }
+    }
+
+    private MethodMeters metersFor(ProceedingJoinPoint joinPoint) {
+        Class<?> proxyClass = joinPoint.getThis() != null ? joinPoint.getThis().getClass() : joinPoint.getTarget().getClass();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Map<Method, MethodMeters> byMethod = meters.get(proxyClass);
+        if (byMethod == null) {
+            byMethod = meters.computeIfAbsent(proxyClass, key -> new ConcurrentHashMap<>());
+        }
+        MethodMeters methodMeters = byMethod.get(method);
+        if (methodMeters == null) {
+            methodMeters = byMethod.computeIfAbsent(method, key -> new MethodMeters(registry, applicationType(proxyClass), key));
+        }
+        return methodMeters;
+    }
+
+    /**
+     * The application class or interface behind a CGLIB or JDK proxy, e.g. {@code CustomerRepository} for the
+     * Spring Data proxy whose inherited methods are declared on {@code JpaRepository}.
+     */
+    private static Class<?> applicationType(Class<?> proxyClass) {
+        Class<?> userClass = ClassUtils.getUserClass(proxyClass);
+        if (Proxy.isProxyClass(userClass)) {
+            for (Class<?> candidate : userClass.getInterfaces()) {
+                if (candidate.getName().startsWith(BASE_PACKAGE)) {
+                    return candidate;
+                }
+            }
+        }
+        return userClass;
+    }
+
+    private static String summarizeArgs(Object[] args) {
+        if (args.length == 0) {
+            return "[]";
+        }
+        StringBuilder summary = new StringBuilder("[");
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                summary.append(", ");
+            }
+            summary.append(summarize(args[i]));
+        }
+        return summary.append(']').toString();
+    }
+
+    /**
+     * Describes a value for a log line without walking its contents.
+     */
+    public static String summarize(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof CharSequence text) {
+            return text.length() <= MAX_STRING_LENGTH ? text.toString() : text.subSequence(0, MAX_STRING_LENGTH) + "...";
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof UUID || value instanceof Enum<?>) {
+            return value.toString();
+        }
+        if (value instanceof Optional<?> optional) {
+            return optional.map(present -> "Optional[" + summarize(present) + "]").orElse("Optional.empty");
+        }
+        if (value instanceof Collection<?> collection) {
+            return value.getClass().getSimpleName() + "[size=" + collection.size() + "]";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return value.getClass().getSimpleName() + "[size=" + map.size() + "]";
+        }
+        if (value.getClass().isArray()) {
+            return value.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]";
+        }
+        return ClassUtils.getUserClass(value).getSimpleName();
+    }
+
+    /**
+     * Exceptions that end up as 4xx responses; anything else thrown is counted as a server error.
+     */
+    static String outcomeOf(Class<? extends Throwable> exception) {
+        boolean clientError = ConstraintViolationException.class.isAssignableFrom(exception)
+                || ServletRequestBindingException.class.isAssignableFrom(exception)
+                || MethodArgumentNotValidException.class.isAssignableFrom(exception)
+                || DuplicateEmailException.class.isAssignableFrom(exception)
+                || CustomerNotFoundException.class.isAssignableFrom(exception)
+                || PreconditionFailedException.class.isAssignableFrom(exception)
+                || OptimisticLockingFailureException.class.isAssignableFrom(exception)
+                || IllegalArgumentException.class.isAssignableFrom(exception);
+        return clientError ? "CLIENT_ERROR" : "SERVER_ERROR";
+    }
+
+    private static String layerOf(Class<?> type) {
+        String name = type.getName();
+        if (name.startsWith(BASE_PACKAGE + "controller.")) {
+            return "controller";
+        }
+        if (name.startsWith(BASE_PACKAGE + "service.")) {
+            return "service";
+        }
+        return "repository";
+    }
+
+    /**
+     * Timers for one traced method, registered once so the hot path does no meter lookups or tag allocation.
+     */
+    private static final class MethodMeters {
+
+        private final MeterRegistry registry;
+        private final String layer;
+        private final String className;
+        private final String methodName;
+        private final Timer success;
+        private final Map<Class<? extends Throwable>, Timer> failures = new ConcurrentHashMap<>();
+
+        MethodMeters(MeterRegistry registry, Class<?> type, Method method) {
+            this.registry = registry;
+            this.layer = layerOf(type);
+            this.className = type.getSimpleName();
+            this.methodName = method.getName();
+            this.success = timer(NO_EXCEPTION, "SUCCESS");
+        }
+
+        Timer timer(Throwable failure) {
+            if (failure == null) {
+                return success;
+            }
+            return failures.computeIfAbsent(failure.getClass(), type -> timer(type.getSimpleName(), outcomeOf(type)));
+        }
+
+        private Timer timer(String exception, String outcome) {
+            return Timer.builder(METRIC_NAME)
+                    .description("Latency of controller, service and repository calls")
+                    .tag("layer", layer)
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("exception", exception)
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+    }
+}
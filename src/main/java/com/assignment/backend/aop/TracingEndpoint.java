@@ -0,0 +1,51 @@
+package com.assignment.backend.aop;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/tracing}) to inspect and change {@link TracingSettings} at runtime.
+ * A POST with any subset of {@code enabled}, {@code sampleRate} and {@code slowThresholdMs} updates only those values.
+ */
+@Component
+@Endpoint(id = "tracing")
+public class TracingEndpoint {
+
+    private final TracingSettings settings;
+
+    public TracingEndpoint(TracingSettings settings) {
+        this.settings = settings;
+    }
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("enabled", settings.isEnabled());
+        body.put("sampleRate", settings.getSampleRate());
+        body.put("slowThresholdMs", settings.getSlowThreshold().toMillis());
+        return body;
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Boolean enabled,
+                                      @Nullable Double sampleRate,
+                                      @Nullable Long slowThresholdMs) {
+        if (sampleRate != null) {
+            settings.setSampleRate(sampleRate);
+        }
+        if (slowThresholdMs != null) {
+            settings.setSlowThreshold(Duration.ofMillis(slowThresholdMs));
+        }
+        if (enabled != null) {
+            settings.setEnabled(enabled);
+        }
+        return settings();
+    }
+}
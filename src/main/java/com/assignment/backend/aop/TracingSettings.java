@@ -0,0 +1,74 @@
+package com.assignment.backend.aop;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Runtime-adjustable switches for {@link TracingAspect}. Initial values come from the {@code tracing.*} properties
+ * and can be changed through the {@code /actuator/tracing} endpoint without a restart.
+ */
+@Component
+public class TracingSettings {
+
+    private volatile boolean enabled;
+    private volatile double sampleRate;
+    private volatile Duration slowThreshold;
+    private volatile long slowThresholdNanos;
+
+    public TracingSettings(@Value("${tracing.enabled:true}") boolean enabled,
+                           @Value("${tracing.sample-rate:0.001}") double sampleRate,
+                           @Value("${tracing.slow-threshold:500ms}") Duration slowThreshold) {
+        setEnabled(enabled);
+        setSampleRate(sampleRate);
+        setSlowThreshold(slowThreshold);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Fraction of calls, between 0 and 1, whose arguments are logged regardless of latency.
+     */
+    public void setSampleRate(double sampleRate) {
+        if (!(sampleRate >= 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    /**
+     * Calls taking at least this long are always logged.
+     */
+    public void setSlowThreshold(Duration slowThreshold) {
+        if (slowThreshold == null || slowThreshold.isNegative()) {
+            throw new IllegalArgumentException("Slow threshold must not be negative");
+        }
+        this.slowThreshold = slowThreshold;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= slowThresholdNanos;
+    }
+
+    boolean shouldSample() {
+        double rate = sampleRate;
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+}
@@ -0,0 +1,84 @@
+package com.assignment.backend.concurrency;
+
+import com.assignment.backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of API requests executing at once. With virtual threads every request gets its own thread, so
+ * nothing upstream bounds concurrency any more; without a cap, a slow database leaves thousands of threads parked
+ * in HikariCP's connection wait. Requests beyond the limit wait on a fair semaphore, which parks virtual threads
+ * without pinning their carrier, and are rejected with {@link ServiceBusyException} (503) after the acquire timeout.
+ * <p>
+ * Publishes {@code app.concurrency.limit}, {@code app.concurrency.active}, {@code app.concurrency.waiting} and
+ * {@code app.concurrency.rejected}.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final int limit;
+    private final long acquireTimeoutNanos;
+    private final Semaphore permits;
+    private final Counter rejected;
+
+    public ConcurrencyLimitInterceptor(int limit, Duration acquireTimeout, MeterRegistry registry) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Concurrency limit must be positive: " + limit);
+        }
+        this.limit = limit;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.permits = new Semaphore(limit, true);
+
+        Gauge.builder("app.concurrency.limit", this, ConcurrencyLimitInterceptor::getLimit)
+                .description("Maximum API requests executing at once")
+                .register(registry);
+        Gauge.builder("app.concurrency.active", this, ConcurrencyLimitInterceptor::getActive)
+                .description("API requests currently holding a permit")
+                .register(registry);
+        Gauge.builder("app.concurrency.waiting", permits, Semaphore::getQueueLength)
+                .description("API requests waiting for a permit")
+                .register(registry);
+        this.rejected = Counter.builder("app.concurrency.rejected")
+                .description("API requests rejected because no permit became free in time")
+                .register(registry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+            rejected.increment();
+            throw new ServiceBusyException("Too many concurrent requests, retry later");
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getActive() {
+        return limit - permits.availablePermits();
+    }
+}
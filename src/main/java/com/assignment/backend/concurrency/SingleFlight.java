@@ -0,0 +1,103 @@
+package com.assignment.backend.concurrency;
+
+import com.assignment.backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the load, and callers that arrive while it is
+ * in flight wait for its result instead of running their own. A load's failure is rethrown to every caller that
+ * shared it. Waiters give up after the maximum wait with {@link ServiceBusyException} (503), so a stuck load cannot
+ * hold them indefinitely. Nothing is cached: once a load completes, the next caller starts a new one.
+ * <p>
+ * Publishes {@code app.singleflight.calls}, tagged {@code name} and {@code result} ({@code loaded},
+ * {@code coalesced} or {@code timed_out}).
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+
+    private final Counter loaded;
+    private final Counter coalesced;
+    private final Counter timedOut;
+
+    public SingleFlight(String name, Duration maxWait, MeterRegistry registry) {
+        if (maxWait.isNegative() || maxWait.isZero()) {
+            throw new IllegalArgumentException("Maximum wait must be positive: " + maxWait);
+        }
+        this.maxWaitNanos = maxWait.toNanos();
+        this.loaded = counter(registry, name, "loaded");
+        this.coalesced = counter(registry, name, "coalesced");
+        this.timedOut = counter(registry, name, "timed_out");
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(key, existing);
+        }
+
+        loaded.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Stops later callers from joining the load currently in flight for the key, e.g. because a write made its
+     * result stale. Callers already waiting still receive it.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    private V await(K key, CompletableFuture<V> flight) {
+        try {
+            return flight.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            timedOut.increment();
+            throw new ServiceBusyException("Timed out waiting for a concurrent lookup of " + key + ", retry later");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted while waiting for a concurrent lookup of " + key);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String result) {
+        return Counter.builder("app.singleflight.calls")
+                .description("Lookups that ran a load, joined one already in flight, or gave up waiting for it")
+                .tag("name", name)
+                .tag("result", result)
+                .register(registry);
+    }
+}
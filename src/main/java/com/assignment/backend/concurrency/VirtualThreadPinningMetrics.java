@@ -0,0 +1,54 @@
+package com.assignment.backend.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+
+/**
+ * Counts virtual threads that stayed pinned to their carrier thread while blocking, e.g. inside a
+ * {@code synchronized} block or a native frame. Pinned threads occupy one of the few carrier threads for the
+ * whole wait, which is what defeats virtual threads under a slow database. The JDK reports such waits as
+ * {@code jdk.VirtualThreadPinned} JFR events; they are streamed in-process into the
+ * {@code jvm.threads.virtual.pinned} timer.
+ */
+public class VirtualThreadPinningMetrics implements MeterBinder, DisposableBean {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    /**
+     * @param threshold pinned waits shorter than this are not reported; the JDK default is 20 ms
+     */
+    public VirtualThreadPinningMetrics(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        if (stream != null) {
+            return;
+        }
+        Timer pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Blocking waits during which a virtual thread was pinned to its carrier thread")
+                .register(registry);
+
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withoutStackTrace();
+        stream.onEvent(PINNED_EVENT, event -> pinned.record(event.getDuration()));
+        stream.startAsync();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.assignment.backend.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the cache infrastructure. Caches are Caffeine-backed and declared in application.properties
+ * ({@code spring.cache.cache-names}) so that their statistics are bound to the actuator metrics at startup.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CUSTOMERS_BY_ID = "customersById";
+    public static final String CUSTOMERS_BY_EMAIL = "customersByEmail";
+}
@@ -0,0 +1,12 @@
+package com.assignment.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} methods, such as the periodic rebuild of the email Bloom filter.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
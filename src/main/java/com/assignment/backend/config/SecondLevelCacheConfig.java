@@ -0,0 +1,95 @@
+package com.assignment.backend.config;
+
+import com.assignment.backend.entity.Customer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Turns on Hibernate's second-level cache for {@link Customer}, backed by Caffeine through JCache. Two regions are
+ * created up front with the configured size and TTL: the entities by ID, and the email-to-ID natural-ID cache that
+ * answers email lookups. Every region reports {@code cache.size}, {@code cache.gets} (hit/miss) and
+ * {@code cache.evictions}, tagged {@code cache=<region>}; Hibernate's statistics add
+ * {@code hibernate.second.level.cache.requests} and {@code hibernate.second.level.cache.puts} per region.
+ * <p>
+ * The cache is local to each instance. Writes through this instance keep it exact; writes by other instances show
+ * up once the TTL expires, and a stale version there still fails the optimistic lock rather than losing an update.
+ * <p>
+ * {@code customer.entity-cache.enabled=false} turns the cache off explicitly; otherwise Hibernate would pick the
+ * JCache region factory from the classpath on its own and create unbounded regions.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String ENTITY_REGION = Customer.class.getName();
+    public static final String NATURAL_ID_REGION = ENTITY_REGION + "##NaturalId";
+
+    private static final List<String> REGIONS = List.of(ENTITY_REGION, NATURAL_ID_REGION);
+
+    /**
+     * A cache manager private to this application context, so several contexts in one JVM, as in the tests,
+     * never share or close each other's regions.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "customer.entity-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager hibernateCacheManager(
+            @Value("${customer.entity-cache.max-size:10000}") long maxSize,
+            @Value("${customer.entity-cache.ttl:10m}") Duration ttl) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            configuration.setNativeStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(
+            ObjectProvider<CacheManager> hibernateCacheManagerProvider) {
+        CacheManager hibernateCacheManager = hibernateCacheManagerProvider.getIfAvailable();
+        return properties -> {
+            if (hibernateCacheManager == null) {
+                properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                return;
+            }
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "create-warn");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "customer.entity-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> REGIONS.forEach(region -> CaffeineCacheMetrics.monitor(registry,
+                caffeineCache(hibernateCacheManager, region), region));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<Object, Object> caffeineCache(CacheManager cacheManager, String region) {
+        return cacheManager.getCache(region).unwrap(Cache.class);
+    }
+}
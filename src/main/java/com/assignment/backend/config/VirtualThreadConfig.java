@@ -0,0 +1,47 @@
+package com.assignment.backend.config;
+
+import com.assignment.backend.concurrency.ConcurrencyLimitInterceptor;
+import com.assignment.backend.concurrency.VirtualThreadPinningMetrics;
+import com.assignment.backend.controller.CustomerChangeController;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Active when {@code spring.threads.virtual.enabled=true}, which makes Spring Boot run every Tomcat request, and
+ * with it the controller and service work, on its own virtual thread. Adds the safeguards that mode needs: a
+ * concurrency limit on the API sized to the JDBC pool, and metrics for virtual threads pinned to their carrier.
+ * The change feed is exempt from the limit: its connections stay open for minutes without using the pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitInterceptor concurrencyLimit;
+
+    public VirtualThreadConfig(
+            MeterRegistry registry,
+            @Value("${virtual-threads.concurrency-limit:${spring.datasource.hikari.maximum-pool-size:10}}") int limit,
+            @Value("${virtual-threads.acquire-timeout:2s}") Duration acquireTimeout) {
+        this.concurrencyLimit = new ConcurrencyLimitInterceptor(limit, acquireTimeout, registry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(concurrencyLimit)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns(CustomerChangeController.PATH);
+    }
+
+    @Bean
+    public VirtualThreadPinningMetrics virtualThreadPinningMetrics(
+            @Value("${virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMetrics(threshold);
+    }
+}
@@ -0,0 +1,68 @@
+package com.assignment.backend.controller;
+
+import com.assignment.backend.dto.CustomerChangeEventDTO;
+import com.assignment.backend.service.impl.CustomerChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * REST controller for the customer change feed, streamed as Server-Sent Events.
+ * Each event's data is a {@code CustomerChangeEventDTO}; clients resume after a disconnect by sending the last
+ * event ID they saw in the {@code Last-Event-ID} header, which browsers' {@code EventSource} does on its own.
+ */
+
+@Tag(name = "Customer Change Controller", description = "Live feed of customer creates, updates and deletes")
+@RestController
+@RequestMapping(CustomerChangeController.PATH)
+public class CustomerChangeController {
+
+    public static final String PATH = "/api/v1.0/customers/changes";
+
+    private final CustomerChangeFeed changeFeed;
+    private final Duration timeout;
+
+    public CustomerChangeController(CustomerChangeFeed changeFeed,
+                                    @Value("${customer.changes.timeout:30m}") Duration timeout) {
+        this.changeFeed = changeFeed;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Holds the connection open until the timeout, after which the client reconnects with its last event ID.
+     */
+    @Operation(summary = "Stream customer changes as Server-Sent Events")
+    @GetMapping
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        CustomerChangeFeed.Subscription subscription = changeFeed.subscribe(lastEventId, new EmitterSink(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements CustomerChangeFeed.Sink {
+
+        @Override
+        public void send(CustomerChangeEventDTO event) throws IOException {
+            emitter.send(SseEmitter.event().id(event.getId()).data(event, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -1,23 +1,48 @@
 package com.assignment.backend.controller;
 
+import com.assignment.backend.dto.BatchItemResultDTO;
+import com.assignment.backend.dto.CustomerETag;
+import com.assignment.backend.dto.CustomerExistsRequestDTO;
+import com.assignment.backend.dto.CustomerExistsResponseDTO;
+import com.assignment.backend.dto.CustomerLookupResponseDTO;
 import com.assignment.backend.dto.CustomerMapper;
+import com.assignment.backend.dto.CustomerMergePatch;
+import com.assignment.backend.dto.CustomerPageCursor;
 import com.assignment.backend.dto.CustomerRequestDTO;
 import com.assignment.backend.dto.CustomerResponseDTO;
 import com.assignment.backend.entity.Customer;
+import com.assignment.backend.exception.CustomerNotFoundException;
+import com.assignment.backend.exception.PreconditionFailedException;
 import com.assignment.backend.service.CustomerService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -32,56 +57,192 @@ import java.util.stream.Collectors;
 @Validated
 public class CustomerController {
 
+    private static final String BASE_PATH = "/api/v1.0/customers";
+    public static final String LOOKUP_PATH = BASE_PATH + "/lookup";
+    public static final String EXISTS_PATH = BASE_PATH + "/exists";
+    private static final String DEFAULT_PAGE_SIZE = "50";
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_DELETE_BATCH_SIZE = 50_000;
+    private static final String DEFAULT_SEARCH_LIMIT = "20";
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int MAX_LOOKUP_SIZE = 1000;
+
     private final CustomerService service;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
-    public CustomerController(CustomerService service) {
+    public CustomerController(CustomerService service, ObjectMapper objectMapper, Validator validator) {
         this.service = service;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
     }
 
-    @Operation(summary = "Get all customers")
+    /**
+     * Returns one page of customers ordered by ID. When the page is full, a {@code Link} header
+     * with {@code rel="next"} carries the opaque cursor for the following page.
+     */
+    @Operation(summary = "Get customers, one page at a time")
     @GetMapping
-    public List<CustomerResponseDTO> getAllCustomers() {
-        return service.getAllCustomers().stream()
-                .map(CustomerMapper::toDTO)
-                .collect(Collectors.toList());
+    public ResponseEntity<List<CustomerResponseDTO>> getAllCustomers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE)
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = MAX_PAGE_SIZE, message = "Page size must be at most " + MAX_PAGE_SIZE)
+            int size) {
+
+        List<CustomerResponseDTO> page = service.getCustomerViewsPage(CustomerPageCursor.decode(cursor), size);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.size() == size) {
+            String next = CustomerPageCursor.encode(page.get(page.size() - 1).getId());
+            response.header(HttpHeaders.LINK,
+                    "<" + BASE_PATH + "?cursor=" + next + "&size=" + size + ">; rel=\"next\"");
+        }
+        return response.body(page);
+    }
+
+    /**
+     * Streams every customer as newline-delimited JSON. Rows are read through a database cursor
+     * and written straight to the response, flushing every {@value #EXPORT_FLUSH_INTERVAL} lines,
+     * so heap use does not depend on the table size.
+     */
+    @Operation(summary = "Export all customers as NDJSON")
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void exportCustomers(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+
+        try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+            int[] written = {0};
+            service.exportCustomerViews(customer -> {
+                try {
+                    generator.writeObject(customer);
+                    generator.writeRaw('\n');
+                    if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
     }
 
+    /**
+     * Responses carry a strong {@code ETag} derived from the customer's version. A request whose
+     * {@code If-None-Match} still matches gets {@code 304} after a version-only lookup, so the customer
+     * is neither loaded nor serialized.
+     */
     @Operation(summary = "Get customer by ID")
     @GetMapping("/{id}")
-    public ResponseEntity<CustomerResponseDTO> getCustomerById(@PathVariable UUID id) {
+    public ResponseEntity<CustomerResponseDTO> getCustomerById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        if (ifNoneMatch != null) {
+            Optional<Long> version = service.getCustomerVersion(id);
+            if (version.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (CustomerETag.matchesAny(ifNoneMatch, version.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(CustomerETag.of(version.get())).build();
+            }
+        }
         return service.getCustomerById(id)
-                .map(CustomerMapper::toDTO)
-                .map(ResponseEntity::ok)
+                .map(CustomerController::withETag)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Fetches up to {@value #MAX_LOOKUP_SIZE} customers by ID in one call, from the cache where possible and
+     * otherwise with chunked primary-key queries. IDs with no customer are listed under {@code missing}.
+     */
+    @Operation(summary = "Get many customers by ID in one call")
+    @PostMapping("/lookup")
+    public CustomerLookupResponseDTO lookupCustomers(
+            @RequestBody
+            @NotEmpty(message = "Lookup must contain at least one ID")
+            @Size(max = MAX_LOOKUP_SIZE, message = "Lookup must contain at most " + MAX_LOOKUP_SIZE + " IDs")
+            List<@NotNull(message = "ID is required") UUID> ids) {
+
+        List<Customer> found = service.getCustomersById(ids);
+        Set<UUID> foundIds = found.stream().map(Customer::getId).collect(Collectors.toSet());
+        return CustomerLookupResponseDTO.builder()
+                .customers(found.stream().map(CustomerMapper::toDTO).collect(Collectors.toList()))
+                .missing(ids.stream().distinct().filter(id -> !foundIds.contains(id)).collect(Collectors.toList()))
+                .build();
+    }
+
     @Operation(summary = "Get customer by email address")
     @GetMapping("/search")
     public ResponseEntity<CustomerResponseDTO> getCustomerByEmail(@RequestParam String email) {
         return service.getCustomerByEmail(email)
-                .map(CustomerMapper::toDTO)
-                .map(ResponseEntity::ok)
+                .map(CustomerController::withETag)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Type-ahead search over given and family names: every word of {@code name} is matched as a prefix of,
+     * or a close spelling of, a name. Results are ranked best first.
+     */
+    @Operation(summary = "Search customers by name")
+    @GetMapping(value = "/search", params = "name")
+    public List<CustomerResponseDTO> searchCustomersByName(
+            @RequestParam @NotBlank(message = "Name query is required") String name,
+            @RequestParam(defaultValue = DEFAULT_SEARCH_LIMIT)
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = MAX_SEARCH_LIMIT, message = "Limit must be at most " + MAX_SEARCH_LIMIT)
+            int limit) {
+
+        return service.searchCustomersByName(name, limit);
+    }
+
     @Operation(summary = "Create a new customer")
     @PostMapping
     public ResponseEntity<CustomerResponseDTO> createCustomer(@RequestBody @Valid CustomerRequestDTO requestDTO) {
         Customer created = service.createCustomer(CustomerMapper.toEntity(requestDTO));
         URI location = URI.create("/api/customers/" + created.getId());
-        return ResponseEntity.created(location).body(CustomerMapper.toDTO(created));
+        return ResponseEntity.created(location)
+                .eTag(CustomerETag.of(created.getVersion()))
+                .body(CustomerMapper.toDTO(created));
+    }
+
+    /**
+     * Creates up to {@value #MAX_BATCH_SIZE} customers at once. Every item is validated up front;
+     * duplicate emails are reported per item as {@code CONFLICT} rather than failing the request.
+     */
+    @Operation(summary = "Create many customers in one call")
+    @PostMapping("/batch")
+    public List<BatchItemResultDTO> createCustomers(
+            @RequestBody
+            @NotEmpty(message = "Batch must contain at least one customer")
+            @Size(max = MAX_BATCH_SIZE, message = "Batch must contain at most " + MAX_BATCH_SIZE + " customers")
+            List<@Valid CustomerRequestDTO> requestDTOs) {
+
+        return service.createCustomers(requestDTOs.stream()
+                .map(CustomerMapper::toEntity)
+                .collect(Collectors.toList()));
     }
 
+    /**
+     * With {@code If-Match}, the update only succeeds while the customer is still at the tagged version;
+     * otherwise the response is {@code 412}.
+     */
     @Operation(summary = "Update an existing customer")
     @PutMapping("/{id}")
     public ResponseEntity<CustomerResponseDTO> updateCustomer(
             @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid CustomerRequestDTO requestDTO) {
 
         Customer incoming = CustomerMapper.toEntity(requestDTO);
         incoming.setId(id);
-        Customer updated = service.updateCustomer(id, incoming);
-        return ResponseEntity.ok(CustomerMapper.toDTO(updated));
+        Customer updated = service.updateCustomer(id, incoming, CustomerETag.expectedVersion(ifMatch));
+        return withETag(updated);
     }
 
     @Operation(summary = "Delete a customer")
@@ -91,6 +252,21 @@ public class CustomerController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Deletes up to {@value #MAX_DELETE_BATCH_SIZE} customers at once, in batched statements within one
+     * transaction. IDs that do not exist are reported per item as {@code NOT_FOUND} rather than failing the request.
+     */
+    @Operation(summary = "Delete many customers in one call")
+    @PostMapping("/batch/delete")
+    public List<BatchItemResultDTO> deleteCustomers(
+            @RequestBody
+            @NotEmpty(message = "Batch must contain at least one ID")
+            @Size(max = MAX_DELETE_BATCH_SIZE, message = "Batch must contain at most " + MAX_DELETE_BATCH_SIZE + " IDs")
+            List<@NotNull(message = "ID is required") UUID> ids) {
+
+        return service.deleteCustomers(ids);
+    }
+
     @Operation(summary = "Partially update a customer's contact number")
     @PatchMapping("/{id}/contact")
     public ResponseEntity<CustomerResponseDTO> updateContact(
@@ -101,21 +277,67 @@ public class CustomerController {
                     regexp = "^\\+?[1-9][0-9]{6,14}$",
                     message = "Contact number must be 7 to 15 digits, optionally starting with +"
             )
-            String contactNumber) {
+            String contactNumber,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        Customer updated = service.patchCustomer(
+                id, Map.of("contactNumber", contactNumber), CustomerETag.expectedVersion(ifMatch));
+        return withETag(updated);
+    }
+
+    /**
+     * Applies a JSON Merge Patch: only the members present in the document are written,
+     * in a single {@code UPDATE}. {@code null} removes an optional value such as {@code middleName}.
+     * {@code If-Match} makes the update conditional, as for {@code PUT}.
+     */
+    @Operation(summary = "Partially update a customer with a JSON Merge Patch")
+    @PatchMapping(value = "/{id}", consumes = CustomerMergePatch.MEDIA_TYPE)
+    public ResponseEntity<CustomerResponseDTO> patchCustomer(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody Map<String, Object> patch) {
 
-        return service.getCustomerById(id).map(customer -> {
-            customer.setContactNumber(contactNumber);
-            Customer updated = service.updateCustomer(id, customer);
-            return ResponseEntity.ok(CustomerMapper.toDTO(updated));
-        }).orElse(ResponseEntity.notFound().build());
+        Map<String, Object> changes = CustomerMergePatch.toChanges(patch, validator);
+        Long expectedVersion = CustomerETag.expectedVersion(ifMatch);
+        if (changes.isEmpty()) {
+            Customer current = service.getCustomerById(id)
+                    .orElseThrow(() -> new CustomerNotFoundException("Customer not found with ID: " + id));
+            if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+                throw new PreconditionFailedException("If-Match does not match the current version: " + ifMatch);
+            }
+            return withETag(current);
+        }
+        Customer updated = service.patchCustomer(id, changes, expectedVersion);
+        return withETag(updated);
     }
 
     @Operation(summary = "Check if a customer exists by ID")
     @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
     public ResponseEntity<Void> checkExists(@PathVariable UUID id) {
-        return service.getCustomerById(id).isPresent()
-                ? ResponseEntity.ok().build()
-                : ResponseEntity.notFound().build();
+        return service.getCustomerVersion(id)
+                .map(version -> ResponseEntity.ok().eTag(CustomerETag.of(version)).<Void>build())
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Checks up to {@value CustomerExistsRequestDTO#MAX_ITEMS} IDs and as many email addresses in one call, with
+     * index-only queries. The response lists the ones that belong to a customer.
+     */
+    @Operation(summary = "Check which of many IDs and email addresses exist")
+    @PostMapping("/exists")
+    public CustomerExistsResponseDTO checkManyExist(@RequestBody @Valid CustomerExistsRequestDTO request) {
+        List<UUID> ids = request.getIds() == null ? List.of() : request.getIds();
+        List<String> emails = request.getEmails() == null ? List.of() : request.getEmails();
+        return CustomerExistsResponseDTO.builder()
+                .ids(ids.isEmpty() ? Set.of() : service.findExistingIds(ids))
+                .emails(emails.isEmpty() ? Set.of() : service.findExistingEmails(emails))
+                .build();
+    }
+
+    private static ResponseEntity<CustomerResponseDTO> withETag(Customer customer) {
+        return ResponseEntity.ok()
+                .eTag(CustomerETag.of(customer.getVersion()))
+                .body(CustomerMapper.toDTO(customer));
     }
 
     @Operation(summary = "List all allowed HTTP methods for /api/customers")
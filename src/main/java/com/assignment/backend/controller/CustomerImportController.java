@@ -0,0 +1,74 @@
+package com.assignment.backend.controller;
+
+import com.assignment.backend.dto.ImportErrorDTO;
+import com.assignment.backend.dto.ImportJobDTO;
+import com.assignment.backend.service.CustomerImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for bulk customer imports from CSV files.
+ * Uploads are accepted as import jobs that run in the background and can be polled for progress.
+ */
+
+@Tag(name = "Customer Import Controller", description = "Bulk CSV imports of customers")
+@RestController
+@RequestMapping("/api/v1.0/customers/imports")
+public class CustomerImportController {
+
+    private final CustomerImportService importService;
+
+    public CustomerImportController(CustomerImportService importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * Accepts a CSV file with a header row naming the {@code CustomerRequestDTO} fields.
+     * The upload is handed to the import job as a file on disk, never as an in-memory buffer.
+     */
+    @Operation(summary = "Start a CSV import of customers")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobDTO> startImport(@RequestParam("file") MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Import file is empty");
+        }
+        Path csvFile = Files.createTempFile("customer-import-", ".csv");
+        try {
+            file.transferTo(csvFile);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(csvFile);
+            throw ex;
+        }
+
+        ImportJobDTO job = importService.startImport(file.getOriginalFilename(), csvFile);
+        URI location = URI.create("/api/v1.0/customers/imports/" + job.getId());
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @Operation(summary = "Get progress of an import job")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobDTO> getJob(@PathVariable UUID jobId) {
+        return importService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Get the rows an import job could not load")
+    @GetMapping("/{jobId}/errors")
+    public ResponseEntity<List<ImportErrorDTO>> getErrors(@PathVariable UUID jobId) {
+        return importService.getErrors(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
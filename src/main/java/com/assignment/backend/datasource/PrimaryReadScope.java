@@ -0,0 +1,41 @@
+package com.assignment.backend.datasource;
+
+/**
+ * Sends the read-only transactions of the current thread to the primary instead of the replica for as long as the
+ * scope is open, for callers that must see their own or every committed write:
+ * <pre>{@code
+ * try (PrimaryReadScope ignored = PrimaryReadScope.open()) {
+ *     ...
+ * }
+ * }</pre>
+ * Scopes nest; closing one restores the routing that was in effect when it was opened.
+ */
+public final class PrimaryReadScope implements AutoCloseable {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private final Boolean previous;
+
+    private PrimaryReadScope(Boolean previous) {
+        this.previous = previous;
+    }
+
+    public static PrimaryReadScope open() {
+        PrimaryReadScope scope = new PrimaryReadScope(ACTIVE.get());
+        ACTIVE.set(Boolean.TRUE);
+        return scope;
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+
+    @Override
+    public void close() {
+        if (previous == null) {
+            ACTIVE.remove();
+        } else {
+            ACTIVE.set(previous);
+        }
+    }
+}
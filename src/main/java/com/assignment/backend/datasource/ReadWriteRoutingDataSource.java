@@ -0,0 +1,62 @@
+package com.assignment.backend.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Hands out replica connections to read-only transactions ({@code @Transactional(readOnly = true)}) and primary
+ * connections to everything else, including work outside a transaction and reads inside a {@link PrimaryReadScope}.
+ * <p>
+ * The transaction's read-only flag is only known once the transaction has begun, after the transaction manager
+ * has asked for its connection, so this data source must sit behind a {@link LazyConnectionDataSourceProxy}; see
+ * {@link #lazy}. Publishes {@code app.datasource.connections}, tagged with the {@code route} taken.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry registry) {
+        setTargetDataSources(Map.<Object, Object>of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.primaryConnections = connections(registry, Route.PRIMARY);
+        this.replicaConnections = connections(registry, Route.REPLICA);
+    }
+
+    /**
+     * The routing data source wrapped so that the physical connection is chosen at its first statement.
+     */
+    public static DataSource lazy(DataSource primary, DataSource replica, MeterRegistry registry) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, registry));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !PrimaryReadScope.isActive()) {
+            replicaConnections.increment();
+            return Route.REPLICA;
+        }
+        primaryConnections.increment();
+        return Route.PRIMARY;
+    }
+
+    private static Counter connections(MeterRegistry registry, Route route) {
+        return Counter.builder("app.datasource.connections")
+                .description("JDBC connections handed out, by the pool they were routed to")
+                .tag("route", route.name().toLowerCase(Locale.ROOT))
+                .register(registry);
+    }
+}
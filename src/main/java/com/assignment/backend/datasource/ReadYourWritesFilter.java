@@ -0,0 +1,85 @@
+package com.assignment.backend.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Lets a client read its own writes despite replica lag. Every request that may write ({@code POST}, {@code PUT},
+ * {@code PATCH}, {@code DELETE}) gets a short-lived {@value #COOKIE} cookie, and while a client still presents it
+ * its reads are served by the primary through a {@link PrimaryReadScope}. The window should exceed the replica's
+ * usual lag; a zero window turns the filter off. {@code POST} endpoints that only read, like a lookup that takes its
+ * IDs in the body, can be listed as read-only paths and are then treated like a {@code GET}.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "read-primary";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final int windowSeconds;
+    private final Set<String> readOnlyPaths;
+
+    public ReadYourWritesFilter(Duration window) {
+        this(window, Set.of());
+    }
+
+    /**
+     * @param readOnlyPaths request paths, without the context path, whose non-safe methods never write
+     */
+    public ReadYourWritesFilter(Duration window, Set<String> readOnlyPaths) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("Read-your-writes window must not be negative: " + window);
+        }
+        this.windowSeconds = (int) ((window.toMillis() + 999) / 1000);
+        this.readOnlyPaths = Set.copyOf(readOnlyPaths);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return windowSeconds == 0;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (mayWrite(request)) {
+            Cookie cookie = new Cookie(COOKIE, "1");
+            cookie.setMaxAge(windowSeconds);
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        } else if (!hasCookie(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        try (PrimaryReadScope ignored = PrimaryReadScope.open()) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private boolean mayWrite(HttpServletRequest request) {
+        return !SAFE_METHODS.contains(request.getMethod())
+                && !readOnlyPaths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    private static boolean hasCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE.equals(cookie.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package com.assignment.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Per-item result of a batch request. {@code index} is the item's position in the request.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResultDTO {
+    private Integer index;
+    private UUID id;
+    private String emailAddress;
+    private BatchItemStatus status;
+    private String message;
+}
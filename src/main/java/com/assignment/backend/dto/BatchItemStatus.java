@@ -0,0 +1,11 @@
+package com.assignment.backend.dto;
+
+/**
+ * Outcome of a single item in a batch request.
+ */
+public enum BatchItemStatus {
+    CREATED,
+    CONFLICT,
+    DELETED,
+    NOT_FOUND
+}
@@ -0,0 +1,33 @@
+package com.assignment.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One event of the customer change feed. {@code id} is also the SSE event ID to resume from; {@code customer} is the
+ * state after the change and is absent for deletes and resets. A batch delete is announced with the removed IDs in
+ * {@code customerIds}, a bounded number per event.
+ * <p>
+ * Events for one customer can arrive out of order when two writes commit at nearly the same time, so
+ * {@code version} is the customer's version after the change: consumers apply an event only if it is newer than the
+ * version they hold. Deletes carry no version but are final, since customer IDs are never reused.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CustomerChangeEventDTO {
+    private String id;
+    private CustomerChangeType type;
+    private UUID customerId;
+    private List<UUID> customerIds;
+    private CustomerResponseDTO customer;
+    private Long version;
+    private Instant occurredAt;
+}
@@ -0,0 +1,19 @@
+package com.assignment.backend.dto;
+
+/**
+ * Kind of event on the customer change feed.
+ */
+public enum CustomerChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    /**
+     * Several customers removed by one batch delete, listed in {@code customerIds}.
+     */
+    BULK_DELETED,
+    /**
+     * The events since the subscriber's last event ID are no longer retained: reload the customers, then apply the
+     * events that follow this one.
+     */
+    RESET
+}
@@ -0,0 +1,49 @@
+package com.assignment.backend.dto;
+
+import com.assignment.backend.exception.PreconditionFailedException;
+
+/**
+ * Converts between a customer's version column and its strong entity tag, {@code "<version>"}.
+ */
+public class CustomerETag {
+
+    public static String of(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header matches the given version. Uses the weak comparison the header
+     * calls for, so {@code W/"3"} matches version 3; {@code *} matches any version.
+     */
+    public static boolean matchesAny(String ifNoneMatch, long version) {
+        String current = of(version);
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*") || trimmed.equals(current) || trimmed.equals("W/" + current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The version an {@code If-Match} header requires, or {@code null} when there is no header or it is {@code *}.
+     *
+     * @throws PreconditionFailedException if the header holds no single strong tag of this form, since no
+     *                                     version could then satisfy it
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ex) {
+                // falls through to the failed precondition below
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not match the current version: " + ifMatch);
+    }
+}
@@ -0,0 +1,28 @@
+package com.assignment.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * IDs and email addresses to check in one call; either list may be left out.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerExistsRequestDTO {
+
+    public static final int MAX_ITEMS = 1000;
+
+    @Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " IDs can be checked at once")
+    private List<@NotNull(message = "ID is required") UUID> ids;
+
+    @Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " email addresses can be checked at once")
+    private List<@NotBlank(message = "Email address is required") String> emails;
+}
@@ -0,0 +1,20 @@
+package com.assignment.backend.dto;
+
+import lombok.*;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The requested IDs and email addresses that belong to a customer, in request order. Emails are returned as
+ * they were sent, although they are matched case-insensitively.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerExistsResponseDTO {
+    private Set<UUID> ids;
+    private Set<String> emails;
+}
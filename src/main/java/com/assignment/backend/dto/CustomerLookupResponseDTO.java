@@ -0,0 +1,19 @@
+package com.assignment.backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a multi-get. Both lists follow the order of the requested IDs; an ID requested twice appears once.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerLookupResponseDTO {
+    private List<CustomerResponseDTO> customers;
+    private List<UUID> missing;
+}
@@ -0,0 +1,45 @@
+package com.assignment.backend.dto;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns a JSON Merge Patch (RFC 7396) document into attribute changes for a customer.
+ * Each member is checked against the same constraints as {@link CustomerRequestDTO}; a {@code null}
+ * member removes the value, which the constraints only allow for optional fields.
+ */
+public class CustomerMergePatch {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private static final List<String> PATCHABLE_FIELDS =
+            List.of("givenName", "middleName", "familyName", "emailAddress", "contactNumber");
+
+    public static Map<String, Object> toChanges(Map<String, Object> patch, Validator validator) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Set<ConstraintViolation<CustomerRequestDTO>> violations = new HashSet<>();
+
+        patch.forEach((field, value) -> {
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Field cannot be patched: " + field);
+            }
+            if (value != null && !(value instanceof String)) {
+                throw new IllegalArgumentException("Field must be a string or null: " + field);
+            }
+            violations.addAll(validator.validateValue(CustomerRequestDTO.class, field, value));
+            changes.put(field, value);
+        });
+
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,9 @@
+package com.assignment.backend.dto;
+
+import java.util.UUID;
+
+/**
+ * The columns the name index needs, read with a JPQL constructor expression so no entity is built.
+ */
+public record CustomerNameView(UUID id, String givenName, String familyName) {
+}
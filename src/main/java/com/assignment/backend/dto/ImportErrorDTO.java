@@ -0,0 +1,19 @@
+package com.assignment.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * A row of an import file that could not be loaded. {@code line} is the 1-based line in the file.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportErrorDTO {
+    private long line;
+    private String emailAddress;
+    private String message;
+}
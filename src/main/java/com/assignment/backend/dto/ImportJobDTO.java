@@ -0,0 +1,31 @@
+package com.assignment.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Progress snapshot of a customer import job.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobDTO {
+    private UUID id;
+    private String fileName;
+    private ImportJobStatus status;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private long rowsProcessed;
+    private long rowsCreated;
+    private long rowsFailed;
+    private double rowsPerSecond;
+    private boolean errorReportTruncated;
+    private String failureReason;
+}
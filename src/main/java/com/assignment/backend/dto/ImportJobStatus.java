@@ -0,0 +1,11 @@
+package com.assignment.backend.dto;
+
+/**
+ * Lifecycle of a customer import job.
+ */
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
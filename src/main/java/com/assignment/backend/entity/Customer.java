@@ -2,17 +2,26 @@ package com.assignment.backend.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.UUID;
 
 /**
  * Entity representing a Customer.
  * Mapped to the 'customers' table with constraints for uniqueness and nullability.
+ * Cached in Hibernate's second-level cache by ID and by email, its natural ID.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @Table(
         name = "customers",
-        uniqueConstraints = @UniqueConstraint(columnNames = "email_address")
+        uniqueConstraints = @UniqueConstraint(name = Customer.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email_address")
 )
 @Getter
 @Setter
@@ -21,8 +30,13 @@ import java.util.UUID;
 @Builder(toBuilder = true)
 public class Customer {
 
+    /**
+     * Name of the unique constraint on {@code email_address}; the service relies on it to detect duplicates.
+     */
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_customers_email_address";
+
     @Id
-    @GeneratedValue
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name = "given_name", nullable = false)
@@ -34,9 +48,22 @@ public class Customer {
     @Column(name = "family_name", nullable = false)
     private String familyName;
 
-    @Column(name = "email_address", nullable = false, unique = true)
+    /**
+     * Mutable natural ID: Hibernate keeps the natural-ID cache in step when an update changes it.
+     */
+    @NaturalId(mutable = true)
+    @Column(name = "email_address", nullable = false)
     private String emailAddress;
 
     @Column(name = "contact_number", nullable = false)
     private String contactNumber;
+
+    /**
+     * Incremented on every update; guards writes against lost updates and is exposed as the entity tag.
+     * The column default lets the schema update add it to tables that already hold rows.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
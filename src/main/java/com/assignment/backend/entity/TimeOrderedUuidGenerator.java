@@ -0,0 +1,46 @@
+package com.assignment.backend.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates version 7 UUIDs (RFC 9562): a 48-bit Unix millisecond timestamp followed by 74 random bits.
+ * IDs created in later milliseconds sort after earlier ones, both as {@link UUID} and as the 16-byte
+ * database value, so inserts append to the primary-key B-tree instead of splitting pages all over it.
+ * <p>
+ * Random bits come from {@link ThreadLocalRandom}, so concurrent inserts never contend on a shared
+ * {@code SecureRandom} the way {@link UUID#randomUUID()} does. IDs are not meant to be unguessable.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_9562 = 0x8000_0000_0000_0000L;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    public static UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    public static UUID next(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (epochMillis << 16) | VERSION_7 | (random.nextInt() & 0x0FFFL);
+        long leastSigBits = VARIANT_RFC_9562 | (random.nextLong() >>> 2);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
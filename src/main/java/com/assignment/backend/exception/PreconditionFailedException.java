@@ -0,0 +1,10 @@
+package com.assignment.backend.exception;
+
+/**
+ * Exception thrown when a conditional write names a version of the customer that is no longer current.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
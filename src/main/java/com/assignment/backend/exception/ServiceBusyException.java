@@ -0,0 +1,10 @@
+package com.assignment.backend.exception;
+
+/**
+ * Exception thrown when a request cannot be accepted because a bounded resource is saturated.
+ */
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,513 @@
+package com.assignment.backend.index;
+
+import com.assignment.backend.dto.CustomerNameView;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.exception.ServiceBusyException;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory index over the given and family names of all customers, for ranked type-ahead search.
+ * <p>
+ * Names are lower-cased, stripped of accents and split into tokens. Each distinct token is kept once in a sorted
+ * dictionary, which answers prefix matches with a range scan, and in a trigram index over the dictionary, which
+ * finds close spellings of terms of {@value #FUZZY_MIN_LENGTH} or more letters. A term scores 1 against an equal
+ * token, 0.8 to 0.9 against a token it is a prefix of, and otherwise the trigram similarity of the two (shared over
+ * distinct trigrams) from {@value #MIN_SIMILARITY} up. Every word of the query must match one of a customer's
+ * tokens; the customer's score is the average of the best score per word.
+ * <p>
+ * Scores are computed per distinct token, not per customer. Customers are then visited through the tokens of the
+ * most selective query word, best token first, and the walk stops as soon as no remaining customer can enter the
+ * result. Ties go to the customer indexed first, which keeps results stable between writes.
+ * <p>
+ * The index only proposes IDs; callers load the customers themselves, so an entry that is briefly stale can
+ * change a ranking but never returns data that is not in the database. Postings are append-only: a rewrite gives
+ * the customer a new document number and leaves the old one as a tombstone until the documents are compacted.
+ * <p>
+ * Writes reach the index after they commit, and only those made through this instance; {@link
+ * CustomerNameIndexLoader} rebuilds it from the table periodically to pick up the rest. A rebuild fills fresh
+ * documents while searches keep using the current ones, then replays the writes made since it started, which may be
+ * newer than the rows it read, and swaps the result in. Writes made before it started had committed before the
+ * table was read, so they need no replay. Searches are rejected until the first build completes.
+ */
+@Component
+public class CustomerNameIndex {
+
+    /**
+     * Shortest query, in letters and digits, that is answered.
+     */
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    static final int FUZZY_MIN_LENGTH = 4;
+    static final double MIN_SIMILARITY = 0.3;
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final String START = "$$";
+    private static final String END = "$";
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+    private Documents current = new Documents();
+
+    /**
+     * Filled by the rebuilding thread only, until {@link #finishRebuild} makes it current.
+     */
+    private volatile Documents next;
+
+    /**
+     * Writes made since the running rebuild started, in order, or {@code null} when none is running.
+     */
+    private List<Write> writesSinceRebuild;
+
+    /**
+     * Starts filling empty replacement documents; every later {@link #put} and {@link #remove} is also recorded for
+     * replay into them.
+     */
+    public void startRebuild() {
+        lock.writeLock().lock();
+        try {
+            next = new Documents();
+            writesSinceRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a customer read from the table to the replacement documents.
+     */
+    public void load(CustomerNameView customer) {
+        next.put(customer.id(), tokenize(customer.givenName() + " " + customer.familyName()));
+    }
+
+    /**
+     * Replays the writes made since the rebuild started, which take precedence over the rows read, and makes the
+     * replacement documents current.
+     */
+    public void finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            Documents rebuilt = next;
+            for (Write write : writesSinceRebuild) {
+                if (write.tokens() == null) {
+                    rebuilt.tombstone(write.id());
+                } else {
+                    rebuilt.put(write.id(), write.tokens());
+                }
+            }
+            rebuilt.compactIfSparse();
+            current = rebuilt;
+            next = null;
+            writesSinceRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            next = null;
+            writesSinceRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Indexes the customer's current names, replacing any earlier entry for the same ID.
+     */
+    public void put(Customer customer) {
+        List<String> tokens = tokenize(customer.getGivenName() + " " + customer.getFamilyName());
+        lock.writeLock().lock();
+        try {
+            current.put(customer.getId(), tokens);
+            current.compactIfSparse();
+            if (writesSinceRebuild != null) {
+                writesSinceRebuild.add(new Write(customer.getId(), tokens));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            current.tombstone(id);
+            current.compactIfSparse();
+            if (writesSinceRebuild != null) {
+                writesSinceRebuild.add(new Write(id, null));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the IDs of the best matching customers, best first.
+     *
+     * @throws IllegalArgumentException if the query has fewer than {@value #MIN_QUERY_LENGTH} letters or digits
+     * @throws ServiceBusyException     if the index is still being loaded
+     */
+    public List<UUID> search(String query, int limit) {
+        List<String> terms = tokenize(query).stream().distinct().toList();
+        if (terms.stream().mapToInt(String::length).sum() < MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Name query must contain at least " + MIN_QUERY_LENGTH + " letters or digits");
+        }
+        if (!ready) {
+            throw new ServiceBusyException("Name index is still loading, retry later");
+        }
+
+        lock.readLock().lock();
+        try {
+            return current.rank(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether {@code order} is the first of the document's tokens in the driver walk, so that a customer with two
+     * matching tokens is only scored once.
+     */
+    private static boolean isFirstMatch(int[] tokens, Map<Integer, Integer> driverOrder, int order) {
+        for (int token : tokens) {
+            Integer other = driverOrder.get(token);
+            if (other != null && other < order) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Average over the query words of the best score among the document's tokens, or 0 if any word is unmatched.
+     */
+    private static double score(int[] tokens, List<Map<Integer, Double>> matches) {
+        double total = 0;
+        for (Map<Integer, Double> tokenScores : matches) {
+            double best = 0;
+            for (int token : tokens) {
+                Double score = tokenScores.get(token);
+                if (score != null && score > best) {
+                    best = score;
+                }
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total / matches.size();
+    }
+
+    static double termScore(String term, String token) {
+        if (token.equals(term)) {
+            return 1.0;
+        }
+        if (token.startsWith(term)) {
+            return 0.8 + 0.1 * term.length() / token.length();
+        }
+        Set<String> termTrigrams = trigrams(term);
+        Set<String> tokenTrigrams = trigrams(token);
+        int shared = 0;
+        for (String trigram : termTrigrams) {
+            if (tokenTrigrams.contains(trigram)) {
+                shared++;
+            }
+        }
+        double similarity = (double) shared / (termTrigrams.size() + tokenTrigrams.size() - shared);
+        return similarity >= MIN_SIMILARITY ? Math.min(similarity, 0.79) : 0;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(TOKEN_SEPARATOR.split(folded.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    private static Set<String> trigrams(String token) {
+        String padded = START + token + END;
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * The indexed customers with their dictionary and postings.
+     */
+    private static final class Documents {
+
+        private final Map<UUID, Integer> documents = new HashMap<>();
+        private UUID[] ids = new UUID[INITIAL_CAPACITY];
+        private int[][] documentTokens = new int[INITIAL_CAPACITY][];
+        private int allocated;
+
+        private final NavigableMap<String, Integer> dictionary = new TreeMap<>();
+        private final List<String> tokenText = new ArrayList<>();
+        private final List<Postings> documentsByToken = new ArrayList<>();
+        private final Map<String, Postings> tokensByTrigram = new HashMap<>();
+
+        void put(UUID id, List<String> tokens) {
+            tombstone(id);
+            add(id, tokens);
+        }
+
+        private List<UUID> rank(List<String> terms, int limit) {
+            List<Map<Integer, Double>> matches = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Integer, Double> tokenScores = matchTokens(term);
+                if (tokenScores.isEmpty()) {
+                    return List.of();
+                }
+                matches.add(tokenScores);
+            }
+
+            int driver = 0;
+            long fewestDocuments = Long.MAX_VALUE;
+            double[] bestScores = new double[terms.size()];
+            for (int i = 0; i < matches.size(); i++) {
+                long count = 0;
+                for (int token : matches.get(i).keySet()) {
+                    count += documentsByToken.get(token).size;
+                }
+                if (count < fewestDocuments) {
+                    fewestDocuments = count;
+                    driver = i;
+                }
+                bestScores[i] = matches.get(i).values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+            }
+            double otherBest = Arrays.stream(bestScores).sum() - bestScores[driver];
+
+            Map<Integer, Double> driverScores = matches.get(driver);
+            List<Integer> driverTokens = new ArrayList<>(driverScores.keySet());
+            driverTokens.sort(Comparator.<Integer>comparingDouble(driverScores::get).reversed().thenComparing(token -> token));
+            Map<Integer, Integer> driverOrder = new HashMap<>();
+            for (int i = 0; i < driverTokens.size(); i++) {
+                driverOrder.put(driverTokens.get(i), i);
+            }
+
+            Comparator<Match> bestFirst = Comparator.comparingDouble(Match::score).reversed()
+                    .thenComparingInt(Match::document);
+            PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, bestFirst.reversed());
+
+            tokens:
+            for (int order = 0; order < driverTokens.size(); order++) {
+                int token = driverTokens.get(order);
+                double bound = (driverScores.get(token) + otherBest) / terms.size();
+                if (top.size() == limit && bound < top.peek().score()) {
+                    break;
+                }
+                Postings postings = documentsByToken.get(token);
+                for (int i = 0; i < postings.size; i++) {
+                    int document = postings.documents[i];
+                    int[] tokens = documentTokens[document];
+                    if (tokens == null || !isFirstMatch(tokens, driverOrder, order)) {
+                        continue;
+                    }
+                    if (top.size() == limit) {
+                        Match worst = top.peek();
+                        // Documents only grow along a postings list, so nothing later in it can beat the worst match.
+                        if (bound < worst.score() || (bound == worst.score() && document > worst.document())) {
+                            continue tokens;
+                        }
+                    }
+                    double score = score(tokens, matches);
+                    if (score > 0) {
+                        top.add(new Match(document, score));
+                        if (top.size() > limit) {
+                            top.poll();
+                        }
+                    }
+                }
+            }
+
+            List<Match> ranked = new ArrayList<>(top);
+            ranked.sort(bestFirst);
+            return ranked.stream().map(match -> ids[match.document()]).toList();
+        }
+
+        /**
+         * Scores every dictionary token the term matches: by prefix through a range scan, and by spelling through the
+         * trigram postings, where a token must share at least half of the term's trigrams to be considered.
+         */
+        private Map<Integer, Double> matchTokens(String term) {
+            Map<Integer, Double> scores = new HashMap<>();
+            for (Map.Entry<String, Integer> entry : dictionary.subMap(term, true, term + Character.MAX_VALUE, true).entrySet()) {
+                scores.put(entry.getValue(), termScore(term, entry.getKey()));
+            }
+            if (term.length() < FUZZY_MIN_LENGTH) {
+                return scores;
+            }
+
+            Set<String> termTrigrams = trigrams(term);
+            int minHits = (termTrigrams.size() + 1) / 2;
+            List<Postings> lists = termTrigrams.stream().map(tokensByTrigram::get).filter(Objects::nonNull).toList();
+            int[] cursors = new int[lists.size()];
+            while (true) {
+                int token = Integer.MAX_VALUE;
+                for (int i = 0; i < cursors.length; i++) {
+                    Postings list = lists.get(i);
+                    if (cursors[i] < list.size) {
+                        token = Math.min(token, list.documents[cursors[i]]);
+                    }
+                }
+                if (token == Integer.MAX_VALUE) {
+                    break;
+                }
+                int hits = 0;
+                for (int i = 0; i < cursors.length; i++) {
+                    Postings list = lists.get(i);
+                    if (cursors[i] < list.size && list.documents[cursors[i]] == token) {
+                        hits++;
+                        cursors[i]++;
+                    }
+                }
+                if (hits >= minHits && !scores.containsKey(token)) {
+                    double score = termScore(term, tokenText.get(token));
+                    if (score > 0) {
+                        scores.put(token, score);
+                    }
+                }
+            }
+            return scores;
+        }
+
+        private void add(UUID id, List<String> tokens) {
+            if (allocated == ids.length) {
+                ids = Arrays.copyOf(ids, allocated * 2);
+                documentTokens = Arrays.copyOf(documentTokens, allocated * 2);
+            }
+            int document = allocated++;
+            int[] tokenIds = tokens.stream().distinct().mapToInt(this::tokenId).toArray();
+            ids[document] = id;
+            documentTokens[document] = tokenIds;
+            documents.put(id, document);
+            for (int token : tokenIds) {
+                documentsByToken.get(token).add(document);
+            }
+        }
+
+        private int tokenId(String token) {
+            Integer existing = dictionary.get(token);
+            if (existing != null) {
+                return existing;
+            }
+            int id = tokenText.size();
+            dictionary.put(token, id);
+            tokenText.add(token);
+            documentsByToken.add(new Postings());
+            for (String trigram : trigrams(token)) {
+                tokensByTrigram.computeIfAbsent(trigram, key -> new Postings()).add(id);
+            }
+            return id;
+        }
+
+        private void tombstone(UUID id) {
+            Integer document = documents.remove(id);
+            if (document != null) {
+                ids[document] = null;
+                documentTokens[document] = null;
+            }
+        }
+
+        private void compactIfSparse() {
+            int tombstones = allocated - documents.size();
+            if (allocated > INITIAL_CAPACITY && tombstones > documents.size()) {
+                compact();
+            }
+        }
+
+        /**
+         * Renumbers the live documents in their current order and rebuilds the dictionary and postings without
+         * tombstones or unused tokens. Must hold the write lock.
+         */
+        private void compact() {
+            UUID[] liveIds = Arrays.copyOf(ids, allocated);
+            int[][] liveTokens = Arrays.copyOf(documentTokens, allocated);
+            List<String> oldText = new ArrayList<>(tokenText);
+            int count = allocated;
+            int live = documents.size();
+
+            documents.clear();
+            dictionary.clear();
+            tokenText.clear();
+            documentsByToken.clear();
+            tokensByTrigram.clear();
+            ids = new UUID[Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, live)) * 2)];
+            documentTokens = new int[ids.length][];
+            allocated = 0;
+
+            for (int i = 0; i < count; i++) {
+                if (liveIds[i] != null) {
+                    add(liveIds[i], Arrays.stream(liveTokens[i]).mapToObj(oldText::get).toList());
+                }
+            }
+        }
+    }
+
+    private record Match(int document, double score) {
+    }
+
+    /**
+     * A put with the customer's tokens, or a remove when they are {@code null}.
+     */
+    private record Write(UUID id, List<String> tokens) {
+    }
+
+    /**
+     * Growable array of document or token numbers, ascending because numbers are only ever appended.
+     */
+    private static final class Postings {
+
+        private int[] documents = new int[4];
+        private int size;
+
+        void add(int number) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = number;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.assignment.backend.index;
+
+import com.assignment.backend.datasource.PrimaryReadScope;
+import com.assignment.backend.dto.CustomerNameView;
+import com.assignment.backend.repository.CustomerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Builds the {@link CustomerNameIndex} from the table once the application has started, streaming only the ID and
+ * names of each customer, and rebuilds it every {@code customer.name-index.rebuild-interval} to pick up customers
+ * written through other instances and to drop tombstones. The application reports itself ready to take traffic only
+ * after the first build. The table is read from the primary, since a lagging replica could miss writes that the
+ * index has already seen.
+ */
+@Slf4j
+@Component
+public class CustomerNameIndexLoader {
+
+    private final CustomerRepository repository;
+    private final CustomerNameIndex index;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public CustomerNameIndexLoader(CustomerRepository repository,
+                                   CustomerNameIndex index,
+                                   PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.index = index;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${customer.name-index.rebuild-interval:5m}",
+            fixedDelayString = "${customer.name-index.rebuild-interval:5m}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        index.startRebuild();
+        try (PrimaryReadScope ignored = PrimaryReadScope.open()) {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<CustomerNameView> names = repository.streamNames()) {
+                    names.forEach(index::load);
+                }
+            });
+        } catch (RuntimeException ex) {
+            index.abortRebuild();
+            throw ex;
+        }
+        index.finishRebuild();
+        log.info("Name index rebuilt with {} customers in {} ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
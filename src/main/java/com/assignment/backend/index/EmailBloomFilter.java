@@ -0,0 +1,286 @@
+package com.assignment.backend.index;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Bloom filter over the normalized email addresses in the database. {@link #mightContain} returning {@code false}
+ * proves an email is not stored, so the lookup can be skipped; {@code true} only means it may be.
+ * <p>
+ * Emails are added <em>before</em> the write that stores them, so a committed email is always present; a rolled
+ * back or deleted email merely stays as a false positive until the next rebuild by {@link EmailBloomFilterLoader}.
+ * While a rebuild streams the table, writes go to both filters, and the emails written shortly before the rebuild
+ * started are replayed into the new filter, since their transactions may commit after the stream's snapshot.
+ * Until the first build completes every email is reported as possibly present.
+ * <p>
+ * Only writes made through this instance reach the filter; a customer created through another instance is unknown
+ * to it until the next rebuild. A negative is therefore trusted only while the filter is younger than
+ * {@code customer.email-filter.max-age}; after that every email is reported as possibly present, until a rebuild
+ * completes. Keep the rebuild interval below the maximum age, and both as short as a customer created elsewhere may
+ * go unseen by an email lookup.
+ * <p>
+ * Publishes {@code customer.email.filter.memory}, {@code customer.email.filter.capacity},
+ * {@code customer.email.filter.expected.fpp}, {@code customer.email.filter.checks} (tagged {@code result}: absent,
+ * maybe_present or stale) and {@code customer.email.filter.false.positives}.
+ */
+@Component
+public class EmailBloomFilter {
+
+    /**
+     * How long an email is remembered for replay into a rebuilt filter; longer than any write transaction.
+     */
+    static final long REPLAY_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final double falsePositiveRate;
+    private final long maxAgeNanos;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ConcurrentLinkedDeque<RecentEmail> recent = new ConcurrentLinkedDeque<>();
+
+    private volatile Bits current;
+    private volatile Bits next;
+
+    private final Counter absent;
+    private final Counter maybePresent;
+    private final Counter stale;
+    private final Counter falsePositives;
+
+    public EmailBloomFilter(MeterRegistry registry,
+                            @Value("${customer.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${customer.email-filter.max-age:10m}") Duration maxAge) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        if (maxAge.isNegative() || maxAge.isZero()) {
+            throw new IllegalArgumentException("Maximum filter age must be positive: " + maxAge);
+        }
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxAgeNanos = maxAge.toNanos();
+
+        Gauge.builder("customer.email.filter.memory", this, filter -> filter.bits(Bits::memoryBytes))
+                .description("Heap used by the email Bloom filter's bit array")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("customer.email.filter.capacity", this, filter -> filter.bits(bits -> bits.capacity))
+                .description("Emails the filter is sized for at the configured false-positive rate")
+                .register(registry);
+        Gauge.builder("customer.email.filter.expected.fpp", this, filter -> filter.bits(Bits::expectedFpp))
+                .description("False-positive probability implied by the bits currently set")
+                .register(registry);
+        this.absent = Counter.builder("customer.email.filter.checks")
+                .description("Email checks answered by the filter")
+                .tag("result", "absent")
+                .register(registry);
+        this.maybePresent = Counter.builder("customer.email.filter.checks")
+                .description("Email checks answered by the filter")
+                .tag("result", "maybe_present")
+                .register(registry);
+        this.stale = Counter.builder("customer.email.filter.checks")
+                .description("Email checks answered by the filter")
+                .tag("result", "stale")
+                .register(registry);
+        this.falsePositives = Counter.builder("customer.email.filter.false.positives")
+                .description("Checks the filter passed to the database that found no customer")
+                .register(registry);
+    }
+
+    public boolean mightContain(String email) {
+        Bits bits = current;
+        if (bits == null) {
+            return true;
+        }
+        if (System.nanoTime() - bits.builtAt > maxAgeNanos) {
+            stale.increment();
+            return true;
+        }
+        boolean result = bits.mightContain(email);
+        (result ? maybePresent : absent).increment();
+        return result;
+    }
+
+    /**
+     * Records that an email the filter let through was not found in the database. Misses after a stale check are
+     * counted too.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * Adds an email that is about to be stored.
+     */
+    public void put(String email) {
+        long now = System.nanoTime();
+        recent.addLast(new RecentEmail(now, email));
+        for (RecentEmail oldest = recent.peekFirst();
+             oldest != null && now - oldest.addedAt() > REPLAY_WINDOW_NANOS;
+             oldest = recent.peekFirst()) {
+            recent.remove(oldest);
+        }
+
+        lock.readLock().lock();
+        try {
+            Bits bits = current;
+            if (bits != null) {
+                bits.put(email);
+            }
+            Bits rebuilding = next;
+            if (rebuilding != null) {
+                rebuilding.put(email);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Starts an empty replacement filter sized for the given number of emails; every later {@link #put} reaches it.
+     */
+    public void startRebuild(long expectedEmails) {
+        lock.writeLock().lock();
+        try {
+            next = new Bits(Math.max(1, expectedEmails), falsePositiveRate);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds an email streamed from the table to the replacement filter.
+     */
+    public void load(String email) {
+        next.put(email);
+    }
+
+    /**
+     * Replays recent writes into the replacement filter and makes it current.
+     */
+    public void finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            Bits rebuilt = next;
+            for (Iterator<RecentEmail> it = recent.iterator(); it.hasNext(); ) {
+                rebuilt.put(it.next().email());
+            }
+            rebuilt.builtAt = System.nanoTime();
+            current = rebuilt;
+            next = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            next = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    private double bits(ToDoubleFunction<Bits> metric) {
+        Bits bits = current;
+        return bits == null ? Double.NaN : metric.applyAsDouble(bits);
+    }
+
+    private record RecentEmail(long addedAt, String email) {
+    }
+
+    /**
+     * Bit array with {@code k} probe positions per email derived by double hashing from one 128-bit hash.
+     */
+    static final class Bits {
+
+        private final long capacity;
+        private final long size;
+        private final int hashes;
+        private final AtomicLongArray words;
+        private final AtomicLong bitsSet = new AtomicLong();
+        private long builtAt;
+
+        Bits(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            long optimalSize = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.words = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalSize + 63) / 64)));
+            this.size = (long) words.length() * 64;
+            this.hashes = Math.max(1, (int) Math.round((double) size / capacity * Math.log(2)));
+        }
+
+        void put(String email) {
+            long[] hash = hash(email);
+            long combined = hash[0];
+            for (int i = 0; i < hashes; i++) {
+                long index = (combined & Long.MAX_VALUE) % size;
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long previous = words.getAndUpdate(word, value -> value | mask);
+                if ((previous & mask) == 0) {
+                    bitsSet.incrementAndGet();
+                }
+                combined += hash[1];
+            }
+        }
+
+        boolean mightContain(String email) {
+            long[] hash = hash(email);
+            long combined = hash[0];
+            for (int i = 0; i < hashes; i++) {
+                long index = (combined & Long.MAX_VALUE) % size;
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+                combined += hash[1];
+            }
+            return true;
+        }
+
+        double memoryBytes() {
+            return words.length() * 8.0;
+        }
+
+        double expectedFpp() {
+            return Math.pow((double) bitsSet.get() / size, hashes);
+        }
+
+        /**
+         * Two independent 64-bit hashes of the UTF-8 bytes: FNV-1a and a multiplicative hash, each finished
+         * with the MurmurHash3 mixer.
+         */
+        private static long[] hash(String email) {
+            byte[] bytes = email.getBytes(StandardCharsets.UTF_8);
+            long fnv = 0xcbf29ce484222325L;
+            long mult = 0x9e3779b97f4a7c15L;
+            for (byte b : bytes) {
+                fnv = (fnv ^ (b & 0xff)) * 0x100000001b3L;
+                mult = (mult + (b & 0xff)) * 0xc6a4a7935bd1e995L;
+            }
+            return new long[]{mix(fnv), mix(mult) | 1};
+        }
+
+        private static long mix(long h) {
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.assignment.backend.index;
+
+import com.assignment.backend.datasource.PrimaryReadScope;
+import com.assignment.backend.repository.CustomerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Builds the {@link EmailBloomFilter} from the {@code email_address} column once the application has started, and
+ * rebuilds it every {@code customer.email-filter.rebuild-interval} to pick up customers written through other
+ * instances, drop deleted emails and resize for growth.
+ * The filter is sized for twice the current row count, but never for fewer than
+ * {@code customer.email-filter.min-capacity} emails. The table is read from the primary, because an email missing
+ * from a lagging replica would become a false negative. With {@code customer.email-filter.enabled=false} the filter is
+ * never built and every lookup goes to the database.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "customer.email-filter.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailBloomFilterLoader {
+
+    private final CustomerRepository repository;
+    private final EmailBloomFilter filter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long minCapacity;
+
+    public EmailBloomFilterLoader(CustomerRepository repository,
+                                  EmailBloomFilter filter,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${customer.email-filter.min-capacity:100000}") long minCapacity) {
+        this.repository = repository;
+        this.filter = filter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.minCapacity = minCapacity;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${customer.email-filter.rebuild-interval:5m}",
+            fixedDelayString = "${customer.email-filter.rebuild-interval:5m}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        long rows = repository.count();
+        filter.startRebuild(Math.max(minCapacity, rows * 2));
+        try (PrimaryReadScope ignored = PrimaryReadScope.open()) {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = repository.streamEmailAddresses()) {
+                    emails.forEach(filter::load);
+                }
+            });
+        } catch (RuntimeException ex) {
+            filter.abortRebuild();
+            throw ex;
+        }
+        filter.finishRebuild();
+        log.info("Email filter rebuilt for {} customers in {} ms", rows, (System.nanoTime() - start) / 1_000_000);
+    }
+}
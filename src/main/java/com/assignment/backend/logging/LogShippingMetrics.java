@@ -0,0 +1,57 @@
+package com.assignment.backend.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * Exposes the state of every {@link MeteredLogstashTcpSocketAppender} attached to the root logger:
+ * {@code logging.shipping.queue.depth}, {@code logging.shipping.queue.capacity},
+ * {@code logging.shipping.events.dropped} and {@code logging.shipping.events.send.failures}, tagged by appender name.
+ */
+@Component
+public class LogShippingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof MeteredLogstashTcpSocketAppender appender) {
+                bind(registry, appender);
+            }
+        }
+    }
+
+    public static void bind(MeterRegistry registry, MeteredLogstashTcpSocketAppender appender) {
+        String name = appender.getName() != null ? appender.getName() : "logstash";
+        Gauge.builder("logging.shipping.queue.depth", appender, MeteredLogstashTcpSocketAppender::getQueueDepth)
+                .description("Log events buffered for shipping")
+                .tag("appender", name)
+                .register(registry);
+        Gauge.builder("logging.shipping.queue.capacity", appender, MeteredLogstashTcpSocketAppender::getRingBufferSize)
+                .description("Size of the log shipping ring buffer")
+                .tag("appender", name)
+                .register(registry);
+        FunctionCounter.builder("logging.shipping.events.dropped", appender, MeteredLogstashTcpSocketAppender::getDroppedCount)
+                .description("Log events dropped because the shipping buffer was full")
+                .tag("appender", name)
+                .register(registry);
+        FunctionCounter.builder("logging.shipping.events.send.failures", appender,
+                        MeteredLogstashTcpSocketAppender::getSendFailureCount)
+                .description("Log events that could not be written to Logstash")
+                .tag("appender", name)
+                .register(registry);
+    }
+}
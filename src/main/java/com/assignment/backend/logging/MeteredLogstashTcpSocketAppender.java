@@ -0,0 +1,60 @@
+package com.assignment.backend.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import net.logstash.logback.appender.LogstashTcpSocketAppender;
+import net.logstash.logback.appender.listener.TcpAppenderListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link LogstashTcpSocketAppender} that keeps the counters needed to watch the shipping path:
+ * the ring buffer fill level, events dropped because the buffer was full, and events that could not be sent.
+ * <p>
+ * Logging threads only hand events to the ring buffer; a single background thread encodes them and writes
+ * them in batches through a buffered socket stream. When the buffer is full, {@code appendTimeout} decides
+ * whether the event is dropped at once (0, the default), after a bounded wait, or the caller blocks (negative).
+ */
+public class MeteredLogstashTcpSocketAppender extends LogstashTcpSocketAppender {
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+
+    public MeteredLogstashTcpSocketAppender() {
+        addListener(new TcpAppenderListener<>() {
+            @Override
+            public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+                dropped.increment();
+            }
+
+            @Override
+            public void eventSendFailure(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+                sendFailures.increment();
+            }
+        });
+    }
+
+    /**
+     * Events waiting in the ring buffer to be written to the socket.
+     */
+    public long getQueueDepth() {
+        if (!isStarted()) {
+            return 0;
+        }
+        return getRingBufferSize() - getDisruptor().getRingBuffer().remainingCapacity();
+    }
+
+    /**
+     * Events rejected because the ring buffer stayed full for longer than {@code appendTimeout}.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Events taken from the ring buffer that could not be written, e.g. while Logstash was unreachable.
+     */
+    public long getSendFailureCount() {
+        return sendFailures.sum();
+    }
+}
@@ -1,17 +1,108 @@
 package com.assignment.backend.repository;
 
+import com.assignment.backend.dto.CustomerNameView;
 import com.assignment.backend.entity.Customer;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Customer entities.
  * Extends JpaRepository to provide standard database operations.
  */
-public interface CustomerRepository extends JpaRepository<Customer, UUID> {
-    Optional<Customer> findByEmailAddress(String emailAddress);
+public interface CustomerRepository extends JpaRepository<Customer, UUID>, CustomerRepositoryCustom {
 
-    boolean existsByEmailAddress(String emailAddress);
+    /**
+     * Reads only the version column of one customer, without building an entity.
+     */
+    @Query("select c.version from Customer c where c.id = :id")
+    Optional<Long> findVersionById(UUID id);
+
+    /**
+     * Returns which of the given email addresses are already taken, in a single {@code IN} query.
+     */
+    @Query("select c.emailAddress from Customer c where c.emailAddress in :emailAddresses")
+    List<String> findExistingEmailAddresses(Collection<String> emailAddresses);
+
+    /**
+     * Returns which of the given IDs exist, in a single {@code IN} query on the primary key.
+     */
+    @Query("select c.id from Customer c where c.id in :ids")
+    List<UUID> findExistingIds(Collection<UUID> ids);
+
+    /**
+     * Like {@link #findExistingIds}, but locks the rows until the transaction ends ({@code SELECT ... FOR UPDATE}),
+     * so a concurrent delete of the same customers waits and then no longer finds them.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c.id from Customer c where c.id in :ids")
+    List<UUID> lockExistingIds(Collection<UUID> ids);
+
+    /**
+     * Deletes one customer with a single {@code DELETE} statement, without loading it first.
+     *
+     * @return the number of rows deleted, {@code 0} if no customer has the given ID
+     */
+    @Modifying
+    @Query("delete from Customer c where c.id = :id")
+    int removeById(UUID id);
+
+    /**
+     * Deletes the given customers with a single {@code DELETE ... WHERE id IN (...)} statement.
+     *
+     * @return the number of rows deleted
+     */
+    @Modifying
+    @Query("delete from Customer c where c.id in :ids")
+    int removeAllByIdIn(Collection<UUID> ids);
+
+    /**
+     * First page of a keyset scan, ordered by primary key.
+     */
+    List<Customer> findAllByOrderByIdAsc(Limit limit);
+
+    /**
+     * Next page of a keyset scan: the rows strictly after the given ID, ordered by primary key.
+     * Served by a range scan on the primary-key index, so the cost does not grow with page depth.
+     */
+    List<Customer> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    /**
+     * Streams every customer through a server-side cursor, 500 rows per round trip.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @Query("select c from Customer c")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Customer> streamAll();
+
+    /**
+     * Streams every stored email address through a server-side cursor, 1000 rows per round trip.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @Query("select c.emailAddress from Customer c")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamEmailAddresses();
+
+    /**
+     * Streams the ID and names of every customer through a server-side cursor, 1000 rows per round trip.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @Query("select new com.assignment.backend.dto.CustomerNameView(c.id, c.givenName, c.familyName) from Customer c")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<CustomerNameView> streamNames();
 }
@@ -0,0 +1,56 @@
+package com.assignment.backend.repository;
+
+import com.assignment.backend.dto.CustomerResponseDTO;
+import com.assignment.backend.entity.Customer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository operations for Customer entities that Spring Data cannot derive.
+ */
+public interface CustomerRepositoryCustom {
+
+    /**
+     * Loads a customer by its natural ID, so that the second-level cache can answer without a query.
+     */
+    Optional<Customer> findByEmailAddress(String emailAddress);
+
+    /**
+     * Same lookup as {@link #findByEmailAddress}, answered from the second-level cache when it holds the customer.
+     */
+    boolean existsByEmailAddress(String emailAddress);
+
+    /**
+     * Updates only the given attributes of one customer with a single {@code UPDATE ... WHERE id = ?},
+     * without loading the entity first. The version is incremented as well.
+     *
+     * @param changes         entity attribute names mapped to their new values; a {@code null} value clears the column
+     * @param expectedVersion when not {@code null}, the row is only updated if it still has this version
+     * @return the number of rows updated: 0 when no customer has the given ID or the version differs
+     */
+    int updateAttributes(UUID id, Map<String, Object> changes, Long expectedVersion);
+
+    /**
+     * One page of a keyset scan read straight into response DTOs by a constructor expression. No entities are
+     * created, so there is nothing to register in the persistence context, snapshot or map afterwards.
+     *
+     * @param after ID of the last customer of the previous page, or {@code null} for the first page
+     */
+    List<CustomerResponseDTO> findViewPage(UUID after, int size);
+
+    /**
+     * The customers with the given IDs as response DTOs, in no particular order.
+     */
+    List<CustomerResponseDTO> findViewsById(Collection<UUID> ids);
+
+    /**
+     * Streams every customer as a response DTO through a server-side cursor, 500 rows per round trip.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    Stream<CustomerResponseDTO> streamViews();
+}
@@ -0,0 +1,110 @@
+package com.assignment.backend.repository;
+
+import com.assignment.backend.dto.CustomerResponseDTO;
+import com.assignment.backend.entity.Customer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Criteria-based implementation of {@link CustomerRepositoryCustom}, picked up by Spring Data by naming convention.
+ */
+class CustomerRepositoryImpl implements CustomerRepositoryCustom {
+
+    static final Set<String> UPDATABLE_ATTRIBUTES =
+            Set.of("givenName", "middleName", "familyName", "emailAddress", "contactNumber");
+
+    private static final String SELECT_VIEW = "select new " + CustomerResponseDTO.class.getName()
+            + "(c.id, c.givenName, c.middleName, c.familyName, c.emailAddress, c.contactNumber) from Customer c";
+
+    private final EntityManager entityManager;
+
+    CustomerRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<Customer> findByEmailAddress(String emailAddress) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Customer.class)
+                .loadOptional(emailAddress);
+    }
+
+    @Override
+    public boolean existsByEmailAddress(String emailAddress) {
+        return findByEmailAddress(emailAddress).isPresent();
+    }
+
+    @Override
+    public int updateAttributes(UUID id, Map<String, Object> changes, Long expectedVersion) {
+        if (changes.isEmpty()) {
+            throw new IllegalArgumentException("No attributes to update");
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Customer> update = cb.createCriteriaUpdate(Customer.class);
+        Root<Customer> customer = update.from(Customer.class);
+        changes.forEach((attribute, value) -> {
+            if (!UPDATABLE_ATTRIBUTES.contains(attribute)) {
+                throw new IllegalArgumentException("Attribute cannot be updated: " + attribute);
+            }
+            update.set(customer.get(attribute), value);
+        });
+        // Bulk updates bypass @Version, so the increment is part of the statement.
+        Path<Long> version = customer.get("version");
+        update.set(version, cb.sum(version, 1L));
+
+        Predicate where = cb.equal(customer.get("id"), id);
+        if (expectedVersion != null) {
+            where = cb.and(where, cb.equal(version, expectedVersion));
+        }
+        update.where(where);
+
+        // Same contract as @Modifying(flushAutomatically = true, clearAutomatically = true):
+        // pending changes reach the database first and no stale managed copy survives the update.
+        // The second-level cache entry is evicted as well, so the caller's re-read sees the new row.
+        entityManager.flush();
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evict(Customer.class, id);
+        return updated;
+    }
+
+    @Override
+    public List<CustomerResponseDTO> findViewPage(UUID after, int size) {
+        TypedQuery<CustomerResponseDTO> query = after == null
+                ? entityManager.createQuery(SELECT_VIEW + " order by c.id", CustomerResponseDTO.class)
+                : entityManager.createQuery(SELECT_VIEW + " where c.id > :after order by c.id", CustomerResponseDTO.class)
+                        .setParameter("after", after);
+        return query.setMaxResults(size).getResultList();
+    }
+
+    @Override
+    public List<CustomerResponseDTO> findViewsById(Collection<UUID> ids) {
+        return entityManager.createQuery(SELECT_VIEW + " where c.id in :ids", CustomerResponseDTO.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<CustomerResponseDTO> streamViews() {
+        return entityManager.createQuery(SELECT_VIEW, CustomerResponseDTO.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, 500)
+                .getResultStream();
+    }
+}
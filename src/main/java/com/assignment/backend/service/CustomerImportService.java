@@ -0,0 +1,27 @@
+package com.assignment.backend.service;
+
+import com.assignment.backend.dto.ImportErrorDTO;
+import com.assignment.backend.dto.ImportJobDTO;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service interface for bulk-loading customers from CSV files.
+ */
+public interface CustomerImportService {
+
+    /**
+     * Queues an import of the given CSV file and returns immediately.
+     * The service takes ownership of the file and deletes it once the job has finished.
+     *
+     * @throws com.assignment.backend.exception.ServiceBusyException if the import queue is full
+     */
+    ImportJobDTO startImport(String fileName, Path csvFile);
+
+    Optional<ImportJobDTO> getJob(UUID jobId);
+
+    Optional<List<ImportErrorDTO>> getErrors(UUID jobId);
+}
@@ -1,10 +1,15 @@
 package com.assignment.backend.service;
 
+import com.assignment.backend.dto.BatchItemResultDTO;
+import com.assignment.backend.dto.CustomerResponseDTO;
 import com.assignment.backend.entity.Customer;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface defining the contract for Customer-related operations.
@@ -12,17 +17,111 @@ import java.util.UUID;
 
 public interface CustomerService {
 
-    List<Customer> getAllCustomers();
+    /**
+     * Returns up to {@code size} customers ordered by ID, starting after the given ID.
+     *
+     * @param after ID of the last customer of the previous page, or {@code null} for the first page
+     * @param size  maximum number of customers to return
+     */
+    List<Customer> getCustomersPage(UUID after, int size);
+
+    /**
+     * The same page as {@link #getCustomersPage}, read directly as response DTOs without loading entities.
+     */
+    List<CustomerResponseDTO> getCustomerViewsPage(UUID after, int size);
+
+    /**
+     * Feeds every customer to the given sink, one at a time, without holding the table in memory. Reads response
+     * DTOs directly, so no entity is created at all.
+     */
+    void exportCustomerViews(Consumer<CustomerResponseDTO> sink);
 
     Optional<Customer> getCustomerById(UUID id);
 
+    /**
+     * Fetches many customers by ID at once.
+     *
+     * @return the customers that exist, in the order of their first occurrence in {@code ids}
+     */
+    List<Customer> getCustomersById(List<UUID> ids);
+
+    /**
+     * Returns the current version of a customer without loading it, for answering conditional requests.
+     */
+    Optional<Long> getCustomerVersion(UUID id);
+
     Optional<Customer> getCustomerByEmail(String email);
 
+    /**
+     * Finds customers whose given or family name starts with, or closely resembles, the words of the query.
+     *
+     * @param limit maximum number of customers to return
+     * @return the best matches, best first, read directly as response DTOs
+     * @throws IllegalArgumentException if the query has fewer than two letters or digits
+     * @throws com.assignment.backend.exception.ServiceBusyException if the name index is still being built
+     */
+    List<CustomerResponseDTO> searchCustomersByName(String query, int limit);
+
     Customer createCustomer(Customer customer);
 
-    Customer updateCustomer(UUID id, Customer updated);
+    /**
+     * Creates many customers in one transaction. Duplicate emails, whether already stored or repeated
+     * within the batch, are reported per item instead of failing the whole batch.
+     *
+     * @return one result per input customer, in input order
+     */
+    List<BatchItemResultDTO> createCustomers(List<Customer> customers);
 
+    /**
+     * Replaces the attributes of a customer.
+     *
+     * @param expectedVersion the version the caller last saw, or {@code null} to update whatever is stored
+     * @throws com.assignment.backend.exception.CustomerNotFoundException if no customer has the given ID
+     * @throws com.assignment.backend.exception.PreconditionFailedException if the customer is no longer at
+     *                                                                     {@code expectedVersion}
+     */
+    Customer updateCustomer(UUID id, Customer updated, Long expectedVersion);
+
+    /**
+     * Changes only the given attributes of a customer, in one {@code UPDATE} statement.
+     *
+     * @param changes         entity attribute names mapped to their new values; {@code null} clears an optional attribute
+     * @param expectedVersion the version the caller last saw, or {@code null} to update whatever is stored
+     * @return the customer as stored after the update
+     * @throws com.assignment.backend.exception.CustomerNotFoundException if no customer has the given ID
+     * @throws com.assignment.backend.exception.PreconditionFailedException if the customer is no longer at
+     *                                                                     {@code expectedVersion}
+     */
+    Customer patchCustomer(UUID id, Map<String, Object> changes, Long expectedVersion);
+
+    /**
+     * Deletes a customer with one {@code DELETE} statement.
+     *
+     * @throws com.assignment.backend.exception.CustomerNotFoundException if no customer has the given ID
+     */
     void deleteCustomer(UUID id);
 
+    /**
+     * Deletes many customers in one transaction, a {@code SELECT} and a {@code DELETE} per chunk of
+     * 1000 IDs, instead of three statements per customer.
+     *
+     * @return one result per requested ID, in request order: {@code DELETED} or {@code NOT_FOUND}
+     */
+    List<BatchItemResultDTO> deleteCustomers(List<UUID> ids);
+
     boolean existsById(UUID id);
+
+    /**
+     * Checks many IDs at once with primary-key index lookups; no customer is loaded.
+     *
+     * @return the given IDs that exist, in request order
+     */
+    Set<UUID> findExistingIds(List<UUID> ids);
+
+    /**
+     * Checks many email addresses at once against the unique email index; no customer is loaded.
+     *
+     * @return the given email addresses, as passed in, whose normalized form belongs to a customer
+     */
+    Set<String> findExistingEmails(List<String> emails);
 }
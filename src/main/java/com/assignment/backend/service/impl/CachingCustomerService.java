@@ -0,0 +1,266 @@
+package com.assignment.backend.service.impl;
+
+import com.assignment.backend.concurrency.SingleFlight;
+import com.assignment.backend.config.CacheConfig;
+import com.assignment.backend.datasource.PrimaryReadScope;
+import com.assignment.backend.dto.BatchItemResultDTO;
+import com.assignment.backend.dto.CustomerResponseDTO;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.service.CustomerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache in front of {@link CustomerServiceImpl}.
+ * <p>
+ * Customers are cached by ID; the email cache only maps a normalized email to an ID, and every hit is
+ * checked against the cached customer's current email. A write therefore only has to evict the customer's
+ * ID for both lookups to stay exact, even when the email itself changed. Loads that overlap a write are
+ * not cached, so an eviction can never be overtaken by a stale value. Cached entities are private copies.
+ * <p>
+ * Concurrent misses for the same ID or email share one load through a {@link SingleFlight}, so a hot customer that
+ * just left the cache costs one query rather than one per caller. Every caller receives its own copy. A write stops
+ * later callers from joining a load that started before it, as does a create for lookups by email.
+ * <p>
+ * Loads that fill the cache read the primary even when a read replica is configured. A lagging replica could
+ * otherwise put back the row a write has just replaced, and every client, the writer included, would read it until
+ * the TTL.
+ */
+@Service
+@Primary
+public class CachingCustomerService implements CustomerService {
+
+    private final CustomerService delegate;
+    private final Cache byId;
+    private final Cache byEmail;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final SingleFlight<UUID, Optional<Customer>> loadsById;
+    private final SingleFlight<String, Optional<Customer>> loadsByEmail;
+
+    public CachingCustomerService(CustomerServiceImpl delegate, CacheManager cacheManager, MeterRegistry registry,
+                                  @Value("${customer.cache.coalesce-timeout:2s}") Duration coalesceTimeout) {
+        this.delegate = delegate;
+        this.byId = Objects.requireNonNull(cacheManager.getCache(CacheConfig.CUSTOMERS_BY_ID));
+        this.byEmail = Objects.requireNonNull(cacheManager.getCache(CacheConfig.CUSTOMERS_BY_EMAIL));
+        this.loadsById = new SingleFlight<>("customer.by.id", coalesceTimeout, registry);
+        this.loadsByEmail = new SingleFlight<>("customer.by.email", coalesceTimeout, registry);
+    }
+
+    @Override
+    public List<Customer> getCustomersPage(UUID after, int size) {
+        return delegate.getCustomersPage(after, size);
+    }
+
+    @Override
+    public List<CustomerResponseDTO> getCustomerViewsPage(UUID after, int size) {
+        return delegate.getCustomerViewsPage(after, size);
+    }
+
+    @Override
+    public void exportCustomerViews(Consumer<CustomerResponseDTO> sink) {
+        delegate.exportCustomerViews(sink);
+    }
+
+    @Override
+    public Optional<Customer> getCustomerById(UUID id) {
+        Customer cached = byId.get(id, Customer.class);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+
+        Optional<Customer> loaded = loadsById.load(id, () -> {
+            long stamp = invalidations.get();
+            Optional<Customer> customer = fromPrimary(() -> delegate.getCustomerById(id));
+            customer.ifPresent(found -> cacheIfUnchanged(stamp, found));
+            return customer;
+        });
+        return loaded.map(CachingCustomerService::copy);
+    }
+
+    /**
+     * Cached customers are answered from the cache; the rest are loaded from the delegate in one call and cached.
+     */
+    @Override
+    public List<Customer> getCustomersById(List<UUID> ids) {
+        Map<UUID, Customer> found = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (UUID id : new LinkedHashSet<>(ids)) {
+            Customer cached = byId.get(id, Customer.class);
+            if (cached != null) {
+                found.put(id, copy(cached));
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long stamp = invalidations.get();
+            for (Customer customer : fromPrimary(() -> delegate.getCustomersById(misses))) {
+                cacheIfUnchanged(stamp, customer);
+                found.put(customer.getId(), customer);
+            }
+        }
+        return ids.stream().distinct().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Answered from the cached customer when there is one, so conditional GETs of hot customers skip the database.
+     */
+    @Override
+    public Optional<Long> getCustomerVersion(UUID id) {
+        Customer cached = byId.get(id, Customer.class);
+        return cached != null ? Optional.ofNullable(cached.getVersion()) : delegate.getCustomerVersion(id);
+    }
+
+    @Override
+    public Optional<Customer> getCustomerByEmail(String email) {
+        String key = CustomerServiceImpl.normalizeEmail(email);
+        UUID id = byEmail.get(key, UUID.class);
+        if (id != null) {
+            Optional<Customer> customer = getCustomerById(id);
+            if (customer.isPresent() && key.equals(customer.get().getEmailAddress())) {
+                return customer;
+            }
+            byEmail.evict(key);
+        }
+
+        Optional<Customer> loaded = loadsByEmail.load(key, () -> {
+            long stamp = invalidations.get();
+            Optional<Customer> customer = fromPrimary(() -> delegate.getCustomerByEmail(key));
+            customer.ifPresent(found -> cacheIfUnchanged(stamp, found));
+            return customer;
+        });
+        return loaded.map(CachingCustomerService::copy);
+    }
+
+    @Override
+    public List<CustomerResponseDTO> searchCustomersByName(String query, int limit) {
+        return delegate.searchCustomersByName(query, limit);
+    }
+
+    @Override
+    public Customer createCustomer(Customer customer) {
+        try {
+            return delegate.createCustomer(customer);
+        } finally {
+            loadsByEmail.forgetAll();
+        }
+    }
+
+    @Override
+    public List<BatchItemResultDTO> createCustomers(List<Customer> customers) {
+        try {
+            return delegate.createCustomers(customers);
+        } finally {
+            loadsByEmail.forgetAll();
+        }
+    }
+
+    @Override
+    public Customer updateCustomer(UUID id, Customer updated, Long expectedVersion) {
+        try {
+            return delegate.updateCustomer(id, updated, expectedVersion);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public Customer patchCustomer(UUID id, Map<String, Object> changes, Long expectedVersion) {
+        try {
+            return delegate.patchCustomer(id, changes, expectedVersion);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public void deleteCustomer(UUID id) {
+        try {
+            delegate.deleteCustomer(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public List<BatchItemResultDTO> deleteCustomers(List<UUID> ids) {
+        try {
+            return delegate.deleteCustomers(ids);
+        } finally {
+            ids.forEach(this::invalidate);
+        }
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return byId.get(id) != null || delegate.existsById(id);
+    }
+
+    /**
+     * Cached IDs are known to exist; only the rest are checked by the delegate.
+     */
+    @Override
+    public Set<UUID> findExistingIds(List<UUID> ids) {
+        Set<UUID> result = new LinkedHashSet<>(ids);
+        Set<UUID> misses = new HashSet<>();
+        result.stream().filter(id -> byId.get(id) == null).forEach(misses::add);
+        if (!misses.isEmpty()) {
+            Set<UUID> existing = delegate.findExistingIds(List.copyOf(misses));
+            result.removeIf(id -> misses.contains(id) && !existing.contains(id));
+        }
+        return result;
+    }
+
+    @Override
+    public Set<String> findExistingEmails(List<String> emails) {
+        return delegate.findExistingEmails(emails);
+    }
+
+    private void invalidate(UUID id) {
+        invalidations.incrementAndGet();
+        byId.evict(id);
+        loadsById.forget(id);
+        loadsByEmail.forgetAll();
+    }
+
+    private void cacheIfUnchanged(long stamp, Customer customer) {
+        if (stamp != invalidations.get()) {
+            return;
+        }
+        byId.put(customer.getId(), copy(customer));
+        byEmail.put(customer.getEmailAddress(), customer.getId());
+        if (stamp != invalidations.get()) {
+            byId.evict(customer.getId());
+        }
+    }
+
+    private static <T> T fromPrimary(Supplier<T> load) {
+        try (PrimaryReadScope ignored = PrimaryReadScope.open()) {
+            return load.get();
+        }
+    }
+
+    private static Customer copy(Customer customer) {
+        return customer.toBuilder().build();
+    }
+}
@@ -0,0 +1,335 @@
+package com.assignment.backend.service.impl;
+
+import com.assignment.backend.dto.CustomerChangeEventDTO;
+import com.assignment.backend.dto.CustomerChangeType;
+import com.assignment.backend.dto.CustomerMapper;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Feed of committed customer changes, for downstream systems that would otherwise poll the list endpoint.
+ * <p>
+ * Every event gets an ID of the form {@code <epoch>-<sequence>}, where the epoch identifies this run of the
+ * application. The most recent events are retained, so a subscriber that reconnects with the ID of the last event it
+ * saw is first sent the ones it missed. When that ID is from another run or older than anything retained, it is sent
+ * a {@link CustomerChangeType#RESET} event instead and must reload the customers before applying what follows.
+ * <p>
+ * Each subscriber has its own bounded buffer, drained onto its connection by its own virtual thread, so publishing
+ * never waits for a client. A subscriber whose buffer fills up is disconnected; it can reconnect with its last event
+ * ID and catch up from the retained events. Idle connections are sent a heartbeat, which also detects clients that
+ * have gone away.
+ * <p>
+ * One write must fit in a subscriber's buffer and in the retained events, or every subscriber would be disconnected
+ * and sent a reset. A batch create publishes one event per customer, at most 1000 through the API, so the buffer
+ * should be several times that. A batch delete of any size publishes one event per {@value #MAX_IDS_PER_EVENT} IDs.
+ * <p>
+ * The feed only carries writes made through this instance. Publishes {@code customer.changes.subscribers},
+ * {@code customer.changes.events} and {@code customer.changes.slow.disconnects}.
+ */
+@Component
+public class CustomerChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerChangeFeed.class);
+
+    /**
+     * Most customer IDs announced by one {@link CustomerChangeType#BULK_DELETED} event.
+     */
+    public static final int MAX_IDS_PER_EVENT = 1000;
+
+    /**
+     * Marks the end of a subscriber's buffer; compared by identity.
+     */
+    private static final CustomerChangeEventDTO END = new CustomerChangeEventDTO();
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final int retention;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long heartbeatNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<CustomerChangeEventDTO> retained = new ArrayDeque<>();
+    private final Set<Subscription> subscribers = ConcurrentHashMap.newKeySet();
+    private long sequence;
+
+    private final Counter published;
+    private final Counter slowDisconnects;
+
+    public CustomerChangeFeed(MeterRegistry registry,
+                              @Value("${customer.changes.retained-events:10000}") int retention,
+                              @Value("${customer.changes.buffer-size:5000}") int bufferSize,
+                              @Value("${customer.changes.max-subscribers:100}") int maxSubscribers,
+                              @Value("${customer.changes.heartbeat:15s}") Duration heartbeat) {
+        if (retention < 1 || bufferSize < 1 || maxSubscribers < 1) {
+            throw new IllegalArgumentException("Retained events, buffer size and maximum subscribers must be positive");
+        }
+        if (heartbeat.isNegative() || heartbeat.isZero()) {
+            throw new IllegalArgumentException("Heartbeat interval must be positive: " + heartbeat);
+        }
+        this.retention = retention;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeatNanos = heartbeat.toNanos();
+
+        Gauge.builder("customer.changes.subscribers", subscribers, Set::size)
+                .description("Clients connected to the customer change feed")
+                .register(registry);
+        this.published = Counter.builder("customer.changes.events")
+                .description("Events published on the customer change feed")
+                .register(registry);
+        this.slowDisconnects = Counter.builder("customer.changes.slow.disconnects")
+                .description("Subscribers disconnected because their buffer was full")
+                .register(registry);
+    }
+
+    /**
+     * Publishes the state of customers that were created or updated. Call once the write has committed.
+     */
+    public void publish(CustomerChangeType type, List<Customer> customers) {
+        Instant now = Instant.now();
+        append(customers.stream()
+                .map(customer -> CustomerChangeEventDTO.builder()
+                        .type(type)
+                        .customerId(customer.getId())
+                        .customer(CustomerMapper.toDTO(customer))
+                        .version(customer.getVersion())
+                        .occurredAt(now)
+                        .build())
+                .toList());
+    }
+
+    /**
+     * Publishes the removal of customers. Call once the delete has committed. A single customer is announced as
+     * {@link CustomerChangeType#DELETED}; more are coalesced into {@link CustomerChangeType#BULK_DELETED} events of
+     * up to {@value #MAX_IDS_PER_EVENT} IDs, so even the largest batch delete is a handful of events.
+     */
+    public void publishDeleted(Collection<UUID> ids) {
+        Instant now = Instant.now();
+        if (ids.size() == 1) {
+            append(List.of(CustomerChangeEventDTO.builder()
+                    .type(CustomerChangeType.DELETED)
+                    .customerId(ids.iterator().next())
+                    .occurredAt(now)
+                    .build()));
+            return;
+        }
+        List<UUID> all = List.copyOf(ids);
+        List<CustomerChangeEventDTO> events = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += MAX_IDS_PER_EVENT) {
+            events.add(CustomerChangeEventDTO.builder()
+                    .type(CustomerChangeType.BULK_DELETED)
+                    .customerIds(all.subList(from, Math.min(from + MAX_IDS_PER_EVENT, all.size())))
+                    .occurredAt(now)
+                    .build());
+        }
+        append(events);
+    }
+
+    /**
+     * Connects a subscriber, which is sent the events after {@code lastEventId} that are still retained, or a
+     * {@link CustomerChangeType#RESET} when they are not, followed by every new event. Without a last event ID only
+     * new events are sent.
+     *
+     * @throws ServiceBusyException when the maximum number of subscribers is connected
+     */
+    public Subscription subscribe(String lastEventId, Sink sink) {
+        Subscription subscription;
+        lock.lock();
+        try {
+            if (subscribers.size() >= maxSubscribers) {
+                throw new ServiceBusyException("Too many subscribers to the customer change feed, retry later");
+            }
+            subscription = new Subscription(sink, missedSince(lastEventId));
+            subscribers.add(subscription);
+        } finally {
+            lock.unlock();
+        }
+        Thread.ofVirtual().name("customer-changes-" + subscription.hashCode()).start(subscription::run);
+        return subscription;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(Subscription::cancel);
+    }
+
+    private void append(List<CustomerChangeEventDTO> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (CustomerChangeEventDTO event : events) {
+                event.setId(eventId(++sequence));
+                retained.addLast(event);
+                if (retained.size() > retention) {
+                    retained.removeFirst();
+                }
+                for (Subscription subscription : subscribers) {
+                    subscription.offer(event);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        published.increment(events.size());
+    }
+
+    /**
+     * The retained events after the given one, or a single reset when some of them are no longer retained.
+     * Must hold the lock.
+     */
+    private List<CustomerChangeEventDTO> missedSince(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        long first = sequence - retained.size() + 1;
+        long last = parseSequence(lastEventId.trim());
+        if (last < first - 1 || last > sequence) {
+            return List.of(CustomerChangeEventDTO.builder()
+                    .id(eventId(sequence))
+                    .type(CustomerChangeType.RESET)
+                    .occurredAt(Instant.now())
+                    .build());
+        }
+        return retained.stream().skip(last - first + 1).toList();
+    }
+
+    /**
+     * The sequence number of an event ID from this run, or -1 for any other ID.
+     */
+    private long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * Where a subscriber's events are written, typically an SSE connection. Called from the subscriber's own
+     * thread only.
+     */
+    public interface Sink {
+
+        void send(CustomerChangeEventDTO event) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        /**
+         * Ends the connection; called once, after the last event.
+         */
+        void close();
+    }
+
+    public final class Subscription {
+
+        private final Sink sink;
+        private final List<CustomerChangeEventDTO> missed;
+        private final BlockingQueue<CustomerChangeEventDTO> buffer;
+        private volatile boolean closed;
+
+        private Subscription(Sink sink, List<CustomerChangeEventDTO> missed) {
+            this.sink = sink;
+            this.missed = missed;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        /**
+         * Disconnects the subscriber, e.g. because its client went away. Events already buffered are dropped.
+         */
+        public void cancel() {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                subscribers.remove(this);
+                buffer.clear();
+                buffer.offer(END);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+        /**
+         * Called with the lock held.
+         */
+        private void offer(CustomerChangeEventDTO event) {
+            if (!closed && !buffer.offer(event)) {
+                slowDisconnects.increment();
+                logger.info("Disconnecting a customer change feed subscriber that fell {} events behind", bufferSize);
+                cancel();
+            }
+        }
+
+        private void run() {
+            try {
+                for (CustomerChangeEventDTO event : missed) {
+                    if (closed) {
+                        return;
+                    }
+                    sink.send(event);
+                }
+                while (true) {
+                    CustomerChangeEventDTO event = buffer.poll(heartbeatNanos, TimeUnit.NANOSECONDS);
+                    if (event == END) {
+                        return;
+                    }
+                    if (event == null) {
+                        sink.heartbeat();
+                    } else {
+                        sink.send(event);
+                    }
+                }
+            } catch (IOException | RuntimeException ex) {
+                logger.debug("Customer change feed subscriber went away: {}", ex.toString());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                cancel();
+                sink.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.assignment.backend.service.impl;
+
+import com.assignment.backend.dto.BatchItemResultDTO;
+import com.assignment.backend.dto.BatchItemStatus;
+import com.assignment.backend.dto.CustomerMapper;
+import com.assignment.backend.dto.CustomerRequestDTO;
+import com.assignment.backend.dto.ImportErrorDTO;
+import com.assignment.backend.dto.ImportJobDTO;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.exception.ServiceBusyException;
+import com.assignment.backend.service.CustomerImportService;
+import com.assignment.backend.service.CustomerService;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the CustomerImportService interface.
+ * Streams CSV files record by record, validates each row against the {@link CustomerRequestDTO} constraints
+ * and commits valid rows in fixed-size chunks through {@link CustomerService#createCustomers(List)}.
+ * Jobs run on a bounded worker pool; when its queue is full new imports are rejected.
+ */
+@Slf4j
+@Service
+public class CustomerImportServiceImpl implements CustomerImportService {
+
+    private static final String GIVEN_NAME = "givenName";
+    private static final String MIDDLE_NAME = "middleName";
+    private static final String FAMILY_NAME = "familyName";
+    private static final String EMAIL_ADDRESS = "emailAddress";
+    private static final String CONTACT_NUMBER = "contactNumber";
+    private static final List<String> REQUIRED_COLUMNS = List.of(GIVEN_NAME, FAMILY_NAME, EMAIL_ADDRESS, CONTACT_NUMBER);
+
+    private final CustomerService customerService;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+    private final int maxRetainedJobs;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<UUID> jobOrder = new ConcurrentLinkedQueue<>();
+
+    public CustomerImportServiceImpl(CustomerService customerService,
+                                     Validator validator,
+                                     @Value("${customer.import.chunk-size:1000}") int chunkSize,
+                                     @Value("${customer.import.workers:2}") int workers,
+                                     @Value("${customer.import.queue-capacity:8}") int queueCapacity,
+                                     @Value("${customer.import.max-reported-errors:10000}") int maxReportedErrors,
+                                     @Value("${customer.import.max-retained-jobs:100}") int maxRetainedJobs) {
+        this.customerService = customerService;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.maxRetainedJobs = maxRetainedJobs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "customer-import-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public ImportJobDTO startImport(String fileName, Path csvFile) {
+        ImportJob job = new ImportJob(fileName, maxReportedErrors);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, csvFile));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.getId());
+            deleteQuietly(csvFile);
+            throw new ServiceBusyException("Import queue is full, retry later");
+        }
+        jobOrder.add(job.getId());
+        evictFinishedJobs();
+        return job.toDTO();
+    }
+
+    @Override
+    public Optional<ImportJobDTO> getJob(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(ImportJob::toDTO);
+    }
+
+    @Override
+    public Optional<List<ImportErrorDTO>> getErrors(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(ImportJob::getErrors);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ImportJob job, Path csvFile) {
+        job.start();
+        String failure = null;
+        try {
+            importRows(job, csvFile);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failure = "Import interrupted";
+        } catch (Exception ex) {
+            log.error("Import {} failed: {}", job.getId(), ex.getMessage(), ex);
+            failure = ex.getMessage();
+        }
+
+        deleteQuietly(csvFile);
+        if (failure == null) {
+            job.complete();
+        } else {
+            job.fail(failure);
+        }
+    }
+
+    private void importRows(ImportJob job, Path csvFile) throws IOException, InterruptedException {
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            CsvReader csv = new CsvReader(reader);
+            Map<String, Integer> columns = readHeader(csv.readRecord());
+
+            List<Customer> chunk = new ArrayList<>(chunkSize);
+            List<Long> chunkLines = new ArrayList<>(chunkSize);
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException();
+                }
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                CustomerRequestDTO row = toRequest(record, columns);
+                Set<ConstraintViolation<CustomerRequestDTO>> violations = validator.validate(row);
+                if (!violations.isEmpty()) {
+                    job.recordFailure(csv.getRecordLine(), row.getEmailAddress(), describe(violations));
+                    continue;
+                }
+                chunk.add(CustomerMapper.toEntity(row));
+                chunkLines.add(csv.getRecordLine());
+                if (chunk.size() == chunkSize) {
+                    commitChunk(job, chunk, chunkLines);
+                }
+            }
+            commitChunk(job, chunk, chunkLines);
+        }
+    }
+
+    private Map<String, Integer> readHeader(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("File is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").trim();
+            for (String known : List.of(GIVEN_NAME, MIDDLE_NAME, FAMILY_NAME, EMAIL_ADDRESS, CONTACT_NUMBER)) {
+                if (known.equalsIgnoreCase(name)) {
+                    columns.put(known, i);
+                }
+            }
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Missing required column(s): " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private static CustomerRequestDTO toRequest(List<String> record, Map<String, Integer> columns) {
+        return CustomerRequestDTO.builder()
+                .givenName(field(record, columns, GIVEN_NAME))
+                .middleName(field(record, columns, MIDDLE_NAME))
+                .familyName(field(record, columns, FAMILY_NAME))
+                .emailAddress(field(record, columns, EMAIL_ADDRESS))
+                .contactNumber(field(record, columns, CONTACT_NUMBER))
+                .build();
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String describe(Set<ConstraintViolation<CustomerRequestDTO>> violations) {
+        return violations.stream()
+                .map(cv -> cv.getPropertyPath() + ": " + cv.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Commits one chunk in its own transaction. A chunk that fails as a whole is reported row by row
+     * and the import carries on with the next chunk.
+     */
+    private void commitChunk(ImportJob job, List<Customer> chunk, List<Long> chunkLines) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            for (BatchItemResultDTO result : customerService.createCustomers(chunk)) {
+                if (result.getStatus() == BatchItemStatus.CREATED) {
+                    job.recordCreated();
+                } else {
+                    job.recordFailure(chunkLines.get(result.getIndex()), result.getEmailAddress(), result.getMessage());
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Import {} chunk starting on line {} failed: {}", job.getId(), chunkLines.get(0), ex.getMessage());
+            for (int i = 0; i < chunk.size(); i++) {
+                job.recordFailure(chunkLines.get(i), chunk.get(i).getEmailAddress(), "Chunk failed: " + ex.getMessage());
+            }
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    private synchronized void evictFinishedJobs() {
+        while (jobs.size() > maxRetainedJobs) {
+            UUID oldest = jobOrder.peek();
+            if (oldest == null || !jobs.get(oldest).isFinished()) {
+                return;
+            }
+            jobOrder.poll();
+            jobs.remove(oldest);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete import file {}: {}", file, ex.getMessage());
+        }
+    }
+}
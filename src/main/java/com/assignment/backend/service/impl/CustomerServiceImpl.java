@@ -1,65 +1,302 @@
 package com.assignment.backend.service.impl;
 
+import com.assignment.backend.dto.BatchItemResultDTO;
+import com.assignment.backend.dto.BatchItemStatus;
+import com.assignment.backend.dto.CustomerChangeType;
+import com.assignment.backend.dto.CustomerResponseDTO;
 import com.assignment.backend.entity.Customer;
 import com.assignment.backend.exception.CustomerNotFoundException;
 import com.assignment.backend.exception.DuplicateEmailException;
+import com.assignment.backend.exception.PreconditionFailedException;
+import com.assignment.backend.index.CustomerNameIndex;
+import com.assignment.backend.index.EmailBloomFilter;
 import com.assignment.backend.repository.CustomerRepository;
 import com.assignment.backend.service.CustomerService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the CustomerService interface.
  * Handles business logic for creating, updating, retrieving, and deleting customers.
+ * Reads run in read-only transactions, which are served by the read replica when one is configured.
  */
 
 @Service
 public class CustomerServiceImpl implements CustomerService {
 
+    /**
+     * Rows per flush when inserting a batch; matches {@code hibernate.jdbc.batch_size}.
+     */
+    static final int INSERT_CHUNK_SIZE = 500;
+
+    /**
+     * Upper bound on bind parameters per {@code IN} list.
+     */
+    static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final CustomerRepository repository;
+    private final EntityManager entityManager;
+    private final CustomerNameIndex nameIndex;
+    private final EmailBloomFilter emailFilter;
+    private final CustomerChangeFeed changeFeed;
 
-    public CustomerServiceImpl(CustomerRepository repository) {
+    public CustomerServiceImpl(CustomerRepository repository,
+                               EntityManager entityManager,
+                               CustomerNameIndex nameIndex,
+                               EmailBloomFilter emailFilter,
+                               CustomerChangeFeed changeFeed) {
         this.repository = repository;
+        this.entityManager = entityManager;
+        this.nameIndex = nameIndex;
+        this.emailFilter = emailFilter;
+        this.changeFeed = changeFeed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Customer> getCustomersPage(UUID after, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + size);
+        }
+        Limit limit = Limit.of(size);
+        return after == null
+                ? repository.findAllByOrderByIdAsc(limit)
+                : repository.findByIdGreaterThanOrderByIdAsc(after, limit);
     }
 
     @Override
-    public List<Customer> getAllCustomers() {
-        return repository.findAll();
+    @Transactional(readOnly = true)
+    public List<CustomerResponseDTO> getCustomerViewsPage(UUID after, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + size);
+        }
+        return repository.findViewPage(after, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCustomerViews(Consumer<CustomerResponseDTO> sink) {
+        try (Stream<CustomerResponseDTO> customers = repository.streamViews()) {
+            customers.forEach(sink);
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Customer> getCustomerById(UUID id) {
         return repository.findById(id);
     }
 
+    /**
+     * One {@code findAllById} query per chunk of {@value #IN_CLAUSE_CHUNK_SIZE} IDs.
+     */
     @Override
+    @Transactional(readOnly = true)
+    public List<Customer> getCustomersById(List<UUID> ids) {
+        List<UUID> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        Map<UUID, Customer> found = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            repository.findAllById(distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size())))
+                    .forEach(customer -> found.put(customer.getId(), customer));
+        }
+        return distinct.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getCustomerVersion(UUID id) {
+        return repository.findVersionById(id);
+    }
+
+    /**
+     * Emails the {@link EmailBloomFilter} rules out are answered without a query.
+     */
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Customer> getCustomerByEmail(String email) {
-        return repository.findByEmailAddress(email);
+        String normalized = normalizeEmail(email);
+        if (!emailFilter.mightContain(normalized)) {
+            return Optional.empty();
+        }
+        Optional<Customer> customer = repository.findByEmailAddress(normalized);
+        if (customer.isEmpty()) {
+            emailFilter.recordFalsePositive();
+        }
+        return customer;
+    }
+
+    /**
+     * Ranks candidates in the {@link CustomerNameIndex}, then reads them with one primary-key query.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CustomerResponseDTO> searchCustomersByName(String query, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        List<UUID> ranked = nameIndex.search(query, limit);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, CustomerResponseDTO> found = repository.findViewsById(ranked).stream()
+                .collect(Collectors.toMap(CustomerResponseDTO::getId, Function.identity()));
+        return ranked.stream().map(found::get).filter(Objects::nonNull).toList();
     }
 
+    /**
+     * Inserts the customer in a single statement. Uniqueness of the email is enforced by the
+     * {@value Customer#EMAIL_UNIQUE_CONSTRAINT} constraint rather than a prior lookup, which also makes
+     * concurrent creates with the same email fail cleanly with {@link DuplicateEmailException}.
+     */
     @Override
     public Customer createCustomer(Customer customer) {
-        customer.setEmailAddress(customer.getEmailAddress().toLowerCase().trim());
+        customer.setEmailAddress(normalizeEmail(customer.getEmailAddress()));
+        emailFilter.put(customer.getEmailAddress());
+
+        try {
+            Customer created = repository.saveAndFlush(customer);
+            afterCommit(() -> {
+                nameIndex.put(created);
+                changeFeed.publish(CustomerChangeType.CREATED, List.of(created));
+            });
+            return created;
+        } catch (DataIntegrityViolationException ex) {
+            throw translateDuplicateEmail(ex, "Email already in use: " + customer.getEmailAddress());
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<BatchItemResultDTO> createCustomers(List<Customer> customers) {
+        customers.forEach(customer -> customer.setEmailAddress(normalizeEmail(customer.getEmailAddress())));
+        Set<String> taken = findExistingEmailAddresses(customers);
+
+        BatchItemResultDTO[] results = new BatchItemResultDTO[customers.size()];
+        List<Customer> pending = new ArrayList<>(INSERT_CHUNK_SIZE);
+        List<Integer> pendingIndexes = new ArrayList<>(INSERT_CHUNK_SIZE);
 
-        if (repository.existsByEmailAddress(customer.getEmailAddress())) {
-            throw new DuplicateEmailException("Email already in use: " + customer.getEmailAddress());
+        for (int i = 0; i < customers.size(); i++) {
+            Customer customer = customers.get(i);
+            if (!taken.add(customer.getEmailAddress())) {
+                results[i] = BatchItemResultDTO.builder()
+                        .index(i)
+                        .emailAddress(customer.getEmailAddress())
+                        .status(BatchItemStatus.CONFLICT)
+                        .message("Email already in use: " + customer.getEmailAddress())
+                        .build();
+                continue;
+            }
+            pending.add(customer);
+            pendingIndexes.add(i);
+            if (pending.size() == INSERT_CHUNK_SIZE) {
+                insertChunk(pending, pendingIndexes, results);
+            }
         }
+        insertChunk(pending, pendingIndexes, results);
 
-        return repository.save(customer);
+        return List.of(results);
     }
 
+    /**
+     * Looks up which emails of the batch already exist, one {@code IN} query per chunk. Emails the
+     * {@link EmailBloomFilter} rules out are not queried; the rest are added to it ahead of the insert.
+     */
+    private Set<String> findExistingEmailAddresses(List<Customer> customers) {
+        List<String> emails = customers.stream()
+                .map(Customer::getEmailAddress)
+                .distinct()
+                .filter(email -> {
+                    boolean candidate = emailFilter.mightContain(email);
+                    emailFilter.put(email);
+                    return candidate;
+                })
+                .toList();
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = emails.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, emails.size()));
+            existing.addAll(repository.findExistingEmailAddresses(chunk));
+        }
+        return existing;
+    }
+
+    /**
+     * Persists a chunk as one JDBC batch, then clears the persistence context so memory stays bounded.
+     */
+    private void insertChunk(List<Customer> pending, List<Integer> pendingIndexes, BatchItemResultDTO[] results) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Customer> saved;
+        try {
+            saved = repository.saveAll(pending);
+            entityManager.flush();
+        } catch (DataIntegrityViolationException | PersistenceException ex) {
+            throw translateDuplicateEmail(ex, "An email in the batch was taken by a concurrent insert, retry the batch");
+        }
+        entityManager.clear();
+        List<Customer> created = List.copyOf(saved);
+        afterCommit(() -> {
+            created.forEach(nameIndex::put);
+            changeFeed.publish(CustomerChangeType.CREATED, created);
+        });
+
+        for (int i = 0; i < saved.size(); i++) {
+            Customer customer = saved.get(i);
+            int index = pendingIndexes.get(i);
+            results[index] = BatchItemResultDTO.builder()
+                    .index(index)
+                    .id(customer.getId())
+                    .emailAddress(customer.getEmailAddress())
+                    .status(BatchItemStatus.CREATED)
+                    .build();
+        }
+        pending.clear();
+        pendingIndexes.clear();
+    }
+
+    /**
+     * Loads, checks and writes the customer in one transaction on the primary. The {@code UPDATE} is conditional
+     * on the version that was loaded, so a concurrent write in between fails the update instead of being lost.
+     */
     @Override
-    public Customer updateCustomer(UUID id, Customer updated) {
-        updated.setEmailAddress(updated.getEmailAddress().toLowerCase().trim());
+    @Transactional
+    public Customer updateCustomer(UUID id, Customer updated, Long expectedVersion) {
+        updated.setEmailAddress(normalizeEmail(updated.getEmailAddress()));
 
         return repository.findById(id).map(existing -> {
-            if (!existing.getEmailAddress().equals(updated.getEmailAddress()) &&
-                    repository.existsByEmailAddress(updated.getEmailAddress())) {
+            if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+                throw versionMismatch(id, expectedVersion);
+            }
+            if (!existing.getEmailAddress().equals(updated.getEmailAddress()) && emailExists(updated.getEmailAddress())) {
                 throw new DuplicateEmailException("Email already in use: " + updated.getEmailAddress());
             }
+            emailFilter.put(updated.getEmailAddress());
 
             existing.setGivenName(updated.getGivenName());
             existing.setMiddleName(updated.getMiddleName());
@@ -67,20 +304,230 @@ public class CustomerServiceImpl implements CustomerService {
             existing.setContactNumber(updated.getContactNumber());
             existing.setEmailAddress(updated.getEmailAddress());
 
-            return repository.save(existing);
+            Customer saved;
+            try {
+                saved = repository.save(existing);
+                entityManager.flush();
+            } catch (OptimisticLockingFailureException | OptimisticLockException ex) {
+                if (expectedVersion != null) {
+                    throw versionMismatch(id, expectedVersion);
+                }
+                // The flush bypasses the repository's exception translation; rethrow as Spring's, answered with 409.
+                throw new ObjectOptimisticLockingFailureException(Customer.class, id, ex);
+            } catch (DataIntegrityViolationException | PersistenceException ex) {
+                throw translateDuplicateEmail(ex, "Email already in use: " + updated.getEmailAddress());
+            }
+            afterCommit(() -> {
+                nameIndex.put(saved);
+                changeFeed.publish(CustomerChangeType.UPDATED, List.of(saved));
+            });
+            return saved;
         }).orElseThrow(() -> new CustomerNotFoundException("Customer not found with ID: " + id));
     }
 
     @Override
+    @Transactional
+    public Customer patchCustomer(UUID id, Map<String, Object> changes, Long expectedVersion) {
+        Map<String, Object> normalized = new HashMap<>(changes);
+        normalized.computeIfPresent("emailAddress", (attribute, email) -> normalizeEmail((String) email));
+        if (normalized.get("emailAddress") instanceof String email) {
+            emailFilter.put(email);
+        }
+
+        int updated;
+        try {
+            updated = repository.updateAttributes(id, normalized, expectedVersion);
+        } catch (DataIntegrityViolationException ex) {
+            throw translateDuplicateEmail(ex, "Email already in use: " + normalized.get("emailAddress"));
+        }
+        if (updated == 0) {
+            if (expectedVersion != null && repository.existsById(id)) {
+                throw versionMismatch(id, expectedVersion);
+            }
+            throw new CustomerNotFoundException("Customer not found with ID: " + id);
+        }
+
+        Customer patched = repository.findById(id)
+                .orElseThrow(() -> new CustomerNotFoundException("Customer not found with ID: " + id));
+        afterCommit(() -> {
+            nameIndex.put(patched);
+            changeFeed.publish(CustomerChangeType.UPDATED, List.of(patched));
+        });
+        return patched;
+    }
+
+    /**
+     * One {@code DELETE} on the primary; the affected-row count tells whether the customer existed.
+     */
+    @Override
+    @Transactional
     public void deleteCustomer(UUID id) {
-        if (!repository.existsById(id)) {
+        if (repository.removeById(id) == 0) {
             throw new CustomerNotFoundException("Customer not found with ID: " + id);
         }
-        repository.deleteById(id);
+        afterCommit(() -> {
+            nameIndex.remove(id);
+            changeFeed.publishDeleted(List.of(id));
+        });
     }
 
+    /**
+     * One {@code SELECT ... FOR UPDATE} and one {@code DELETE} per chunk. The lock makes a concurrent delete of the
+     * same customers wait for this one and then find nothing, so each customer is reported as deleted only once.
+     */
     @Override
+    @Transactional
+    public List<BatchItemResultDTO> deleteCustomers(List<UUID> ids) {
+        List<UUID> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        Set<UUID> deleted = new LinkedHashSet<>();
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<UUID> existing = repository.lockExistingIds(
+                    distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size())));
+            if (!existing.isEmpty()) {
+                int removed = repository.removeAllByIdIn(existing);
+                if (removed != existing.size()) {
+                    throw new IllegalStateException("Deleted " + removed + " of " + existing.size()
+                            + " locked customers, the batch was rolled back");
+                }
+                deleted.addAll(existing);
+            }
+        }
+        afterCommit(() -> {
+            deleted.forEach(nameIndex::remove);
+            changeFeed.publishDeleted(deleted);
+        });
+
+        List<BatchItemResultDTO> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+            boolean found = deleted.contains(id);
+            results.add(BatchItemResultDTO.builder()
+                    .index(i)
+                    .id(id)
+                    .status(found ? BatchItemStatus.DELETED : BatchItemStatus.NOT_FOUND)
+                    .message(found ? null : "Customer not found with ID: " + id)
+                    .build());
+        }
+        return results;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public boolean existsById(UUID id) {
         return repository.existsById(id);
     }
+
+    /**
+     * One {@code SELECT id ... WHERE id IN (...)} per chunk, which the primary-key index answers alone.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Set<UUID> findExistingIds(List<UUID> ids) {
+        List<UUID> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        Set<UUID> existing = new HashSet<>();
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            existing.addAll(repository.findExistingIds(
+                    distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size()))));
+        }
+        Set<UUID> result = new LinkedHashSet<>(distinct);
+        result.retainAll(existing);
+        return result;
+    }
+
+    /**
+     * Emails the {@link EmailBloomFilter} rules out are answered without a query; the rest are checked with
+     * one {@code IN} query per chunk against the unique email index.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findExistingEmails(List<String> emails) {
+        List<String> candidates = emails.stream()
+                .map(CustomerServiceImpl::normalizeEmail)
+                .distinct()
+                .filter(emailFilter::mightContain)
+                .toList();
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            existing.addAll(repository.findExistingEmailAddresses(
+                    candidates.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, candidates.size()))));
+        }
+        for (int i = existing.size(); i < candidates.size(); i++) {
+            emailFilter.recordFalsePositive();
+        }
+
+        Set<String> result = new LinkedHashSet<>();
+        for (String email : emails) {
+            if (existing.contains(normalizeEmail(email))) {
+                result.add(email);
+            }
+        }
+        return result;
+    }
+
+    private boolean emailExists(String email) {
+        if (!emailFilter.mightContain(email)) {
+            return false;
+        }
+        boolean exists = repository.existsByEmailAddress(email);
+        if (!exists) {
+            emailFilter.recordFalsePositive();
+        }
+        return exists;
+    }
+
+    private static PreconditionFailedException versionMismatch(UUID id, long expectedVersion) {
+        return new PreconditionFailedException(
+                "Customer " + id + " is no longer at version " + expectedVersion + ", reload it and retry");
+    }
+
+    /**
+     * Runs the action once the surrounding transaction has committed, or at once when there is none,
+     * so that in-memory structures and the change feed never see a write that is rolled back.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Turns a violation of the email unique constraint into a {@link DuplicateEmailException};
+     * any other failure is returned unchanged.
+     */
+    private static RuntimeException translateDuplicateEmail(RuntimeException ex, String message) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && isEmailConstraint(violation)) {
+                return new DuplicateEmailException(message);
+            }
+        }
+        return ex;
+    }
+
+    /**
+     * Matches a constraint named after the email column, or a unique violation whose message names the column, as
+     * for the generated constraint name of older schemas. A primary-key collision is not a duplicate email.
+     */
+    private static boolean isEmailConstraint(ConstraintViolationException violation) {
+        String name = violation.getConstraintName();
+        if (name != null && name.toLowerCase(Locale.ROOT).contains("email")) {
+            return true;
+        }
+        String message = violation.getSQLException().getMessage();
+        return violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE
+                && message != null && message.toLowerCase(Locale.ROOT).contains("(email_address");
+    }
+
+    /**
+     * Canonical form of an email address as stored in the {@code email_address} column.
+     */
+    public static String normalizeEmail(String email) {
+        return email.toLowerCase().trim();
+    }
 }
@@ -0,0 +1,112 @@
+package com.assignment.backend.service.impl;
+
+import com.assignment.backend.dto.ImportErrorDTO;
+import com.assignment.backend.dto.ImportJobDTO;
+import com.assignment.backend.dto.ImportJobStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mutable progress of one import. Counters are written by the worker thread and read by API callers.
+ */
+final class ImportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final String fileName;
+    private final int maxReportedErrors;
+    private final Instant submittedAt = Instant.now();
+
+    private final AtomicLong rowsProcessed = new AtomicLong();
+    private final AtomicLong rowsCreated = new AtomicLong();
+    private final AtomicLong rowsFailed = new AtomicLong();
+    private final List<ImportErrorDTO> errors = new ArrayList<>();
+
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String failureReason;
+
+    ImportJob(String fileName, int maxReportedErrors) {
+        this.fileName = fileName;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    UUID getId() {
+        return id;
+    }
+
+    boolean isFinished() {
+        return status == ImportJobStatus.COMPLETED || status == ImportJobStatus.FAILED;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        status = ImportJobStatus.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        status = ImportJobStatus.COMPLETED;
+    }
+
+    void fail(String reason) {
+        failureReason = reason;
+        finishedAt = Instant.now();
+        status = ImportJobStatus.FAILED;
+    }
+
+    void recordCreated() {
+        rowsProcessed.incrementAndGet();
+        rowsCreated.incrementAndGet();
+    }
+
+    void recordFailure(long line, String emailAddress, String message) {
+        rowsProcessed.incrementAndGet();
+        rowsFailed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(ImportErrorDTO.builder().line(line).emailAddress(emailAddress).message(message).build());
+            }
+        }
+    }
+
+    List<ImportErrorDTO> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    ImportJobDTO toDTO() {
+        long processed = rowsProcessed.get();
+        long failed = rowsFailed.get();
+        return ImportJobDTO.builder()
+                .id(id)
+                .fileName(fileName)
+                .status(status)
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .rowsProcessed(processed)
+                .rowsCreated(rowsCreated.get())
+                .rowsFailed(failed)
+                .rowsPerSecond(rowsPerSecond(processed))
+                .errorReportTruncated(failed > maxReportedErrors)
+                .failureReason(failureReason)
+                .build();
+    }
+
+    private double rowsPerSecond(long processed) {
+        Instant start = startedAt;
+        if (start == null) {
+            return 0;
+        }
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long millis = Math.max(Duration.between(start, end).toMillis(), 1);
+        return processed * 1000.0 / millis;
+    }
+}
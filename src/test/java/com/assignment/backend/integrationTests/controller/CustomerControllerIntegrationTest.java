@@ -12,10 +12,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -54,6 +58,38 @@ class CustomerControllerIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void getAllCustomers_shouldWalkEveryPageExactlyOnce() throws Exception {
+        repository.save(testCustomer.toBuilder().id(null).emailAddress("lois.integration@example.com").build());
+        repository.save(testCustomer.toBuilder().id(null).emailAddress("jimmy.integration@example.com").build());
+
+        MvcResult first = mockMvc.perform(get("/api/v1.0/customers").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().string("Link", containsString("rel=\"next\"")))
+                .andReturn();
+
+        String link = first.getResponse().getHeader("Link");
+        String cursor = link.substring(link.indexOf("cursor=") + "cursor=".length(), link.indexOf('&'));
+
+        mockMvc.perform(get("/api/v1.0/customers").param("cursor", cursor).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().doesNotExist("Link"));
+    }
+
+    @Test
+    void exportCustomers_shouldStreamEveryCustomerAsNdjson() throws Exception {
+        repository.save(testCustomer.toBuilder().id(null).emailAddress("lois.export@example.com").build());
+
+        mockMvc.perform(get("/api/v1.0/customers/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(containsString("\"emailAddress\":\"clark.integration@example.com\"")))
+                .andExpect(content().string(containsString("\"emailAddress\":\"lois.export@example.com\"")))
+                .andExpect(content().string(matchesPattern("(\\{[^\\n]*}\\n){2}")));
+    }
+
     @Test
     void getCustomerById_found() throws Exception {
         mockMvc.perform(get("/api/v1.0/customers/{id}", testCustomer.getId()))
@@ -103,6 +139,48 @@ class CustomerControllerIntegrationTest {
                 .andExpect(status().isCreated());
     }
 
+    @Test
+    void createCustomers_shouldCreateNewAndFlagDuplicates() throws Exception {
+        CustomerRequestDTO fresh = CustomerRequestDTO.builder()
+                .givenName("Diana")
+                .familyName("Prince")
+                .emailAddress("diana.batch@example.com")
+                .contactNumber("+1987654321")
+                .build();
+        CustomerRequestDTO duplicate = CustomerRequestDTO.builder()
+                .givenName("Clark")
+                .familyName("Kent")
+                .emailAddress("CLARK.integration@example.com")
+                .contactNumber("+1987654321")
+                .build();
+
+        mockMvc.perform(post("/api/v1.0/customers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(List.of(fresh, duplicate))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].id").isNotEmpty())
+                .andExpect(jsonPath("$[1].status").value("CONFLICT"));
+
+        mockMvc.perform(get("/api/v1.0/customers/search").param("email", "diana.batch@example.com"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void createCustomer_duplicateEmail_shouldReturnConflict() throws Exception {
+        CustomerRequestDTO dto = CustomerRequestDTO.builder()
+                .givenName("Clark")
+                .familyName("Kent")
+                .emailAddress("Clark.Integration@example.com")
+                .contactNumber("+1987654321")
+                .build();
+
+        mockMvc.perform(post("/api/v1.0/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(dto)))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     void createCustomer_invalidEmail() throws Exception {
         CustomerRequestDTO dto = CustomerRequestDTO.builder()
@@ -142,6 +220,76 @@ class CustomerControllerIntegrationTest {
                 .andExpect(jsonPath("$.contactNumber").value("+10987654321"));
     }
 
+    @Test
+    void patchContactNumber_unknownCustomer_shouldReturnNotFound() throws Exception {
+        mockMvc.perform(patch("/api/v1.0/customers/{id}/contact", UUID.randomUUID())
+                        .param("contactNumber", "+10987654321"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void mergePatch_shouldUpdateOnlyGivenFields() throws Exception {
+        mockMvc.perform(patch("/api/v1.0/customers/{id}", testCustomer.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"givenName\":\"Kal\",\"middleName\":null,\"emailAddress\":\"KAL.EL@example.com\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.givenName").value("Kal"))
+                .andExpect(jsonPath("$.middleName").doesNotExist())
+                .andExpect(jsonPath("$.familyName").value("Kent"))
+                .andExpect(jsonPath("$.emailAddress").value("kal.el@example.com"))
+                .andExpect(jsonPath("$.contactNumber").value("+1234567899"));
+    }
+
+    @Test
+    void conditionalRequests_shouldFollowTheVersion() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1.0/customers/{id}", testCustomer.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1.0/customers/{id}", testCustomer.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        String changed = mockMvc.perform(patch("/api/v1.0/customers/{id}", testCustomer.getId())
+                        .header("If-Match", etag)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"givenName\":\"Kal-El\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(etag, changed);
+
+        CustomerRequestDTO dto = CustomerRequestDTO.builder()
+                .givenName("Clark")
+                .familyName("Kent")
+                .emailAddress("clark.integration@example.com")
+                .contactNumber("+1234567899")
+                .build();
+        mockMvc.perform(put("/api/v1.0/customers/{id}", testCustomer.getId())
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(dto)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/api/v1.0/customers/{id}", testCustomer.getId())
+                        .header("If-Match", changed)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1.0/customers/{id}", testCustomer.getId()).header("If-None-Match", changed))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.givenName").value("Clark"));
+    }
+
+    @Test
+    void mergePatch_emailTaken_shouldReturnConflict() throws Exception {
+        repository.save(testCustomer.toBuilder().id(null).emailAddress("lois.patch@example.com").build());
+
+        mockMvc.perform(patch("/api/v1.0/customers/{id}", testCustomer.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"emailAddress\":\"lois.patch@example.com\"}"))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     void deleteCustomer_success() throws Exception {
         mockMvc.perform(delete("/api/v1.0/customers/{id}", testCustomer.getId()))
@@ -0,0 +1,55 @@
+package com.assignment.backend.integrationTests.controller;
+
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.repository.CustomerRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Tag("acceptance")
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=prometheus")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository repository;
+
+    @Test
+    void prometheusEndpoint_shouldExposeLatencyHistogramsWithSloBucketsAndOutcome() throws Exception {
+        Customer customer = repository.save(Customer.builder()
+                .givenName("Diana")
+                .familyName("Prince")
+                .emailAddress("diana.metrics@example.com")
+                .contactNumber("+1234567811")
+                .build());
+        mockMvc.perform(get("/api/v1.0/customers/{id}", customer.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1.0/customers/{id}", UUID.randomUUID())).andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        matchesPattern("(?s).*http_server_requests_seconds_bucket\\{[^}]*outcome=\"CLIENT_ERROR\""
+                                + "[^}]*uri=\"/api/v1.0/customers/\\{id}\"[^}]*le=\"0\\.1\"}.*"),
+                        matchesPattern("(?s).*app_method_seconds_bucket\\{[^}]*class=\"CustomerController\""
+                                + "[^}]*method=\"getCustomerById\"[^}]*outcome=\"SUCCESS\"[^}]*}.*"),
+                        containsString("hikaricp_connections_active"),
+                        containsString("hikaricp_connections_pending"))));
+    }
+}
@@ -0,0 +1,153 @@
+package com.assignment.backend.integrationTests.datasource;
+
+import com.assignment.backend.datasource.ReadYourWritesFilter;
+import com.assignment.backend.dto.CustomerRequestDTO;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.service.CustomerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs against two in-memory H2 databases, one standing in for the primary and one for the replica. Replication
+ * is simulated by copying the primary into the replica with {@link #replicate()}, so anything written since the
+ * last copy is visible on the primary only. The second-level cache is off, since it would answer the reads of
+ * customers this instance wrote without asking either database. Lookups by ID or email fill the service cache and
+ * therefore read the primary; the version lookups behind {@code HEAD} show the routing to the replica.
+ */
+@Tag("acceptance")
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaIntegrationTest.PRIMARY_URL,
+        "datasource.replica.url=" + ReadReplicaIntegrationTest.REPLICA_URL,
+        "datasource.replica.read-your-writes-window=30s",
+        "customer.entity-cache.enabled=false"})
+@AutoConfigureMockMvc
+class ReadReplicaIntegrationTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    @Autowired
+    private CustomerService service;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        replicate();
+    }
+
+    @Test
+    void reads_shouldBeServedByReplicaAndWritesByPrimary() throws SQLException {
+        Customer created = service.createCustomer(Customer.builder()
+                .givenName("Rita")
+                .familyName("Replica")
+                .emailAddress("rita.replica@example.com")
+                .contactNumber("+1234567800")
+                .build());
+
+        assertTrue(service.getCustomerVersion(created.getId()).isEmpty());
+        assertFalse(service.existsById(created.getId()));
+
+        replicate();
+        assertTrue(service.getCustomerVersion(created.getId()).isPresent());
+        assertTrue(service.existsById(created.getId()));
+    }
+
+    @Test
+    void cacheFillingLookups_shouldNotCacheWhatALaggingReplicaReturns() throws SQLException {
+        Customer created = service.createCustomer(Customer.builder()
+                .givenName("Lara")
+                .familyName("Lag")
+                .emailAddress("lara.lag@example.com")
+                .contactNumber("+1234567802")
+                .build());
+        replicate();
+        assertEquals("Lara", service.getCustomerById(created.getId()).orElseThrow().getGivenName());
+
+        service.updateCustomer(created.getId(), Customer.builder()
+                .givenName("Laura")
+                .familyName("Lag")
+                .emailAddress("lara.lag@example.com")
+                .contactNumber("+1234567802")
+                .build(), null);
+
+        assertEquals(Optional.of(0L), service.getCustomerVersion(created.getId()));
+        assertEquals("Laura", service.getCustomerById(created.getId()).orElseThrow().getGivenName());
+        assertEquals("Laura", service.getCustomerByEmail("lara.lag@example.com").orElseThrow().getGivenName());
+        assertEquals(Optional.of(1L), service.getCustomerVersion(created.getId()));
+    }
+
+    @Test
+    void clientThatJustWrote_shouldReadFromPrimary() throws Exception {
+        CustomerRequestDTO dto = CustomerRequestDTO.builder()
+                .givenName("Wanda")
+                .familyName("Writer")
+                .emailAddress("wanda.writer@example.com")
+                .contactNumber("+1234567801")
+                .build();
+
+        MvcResult created = mockMvc.perform(post("/api/v1.0/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().maxAge(ReadYourWritesFilter.COOKIE, 30))
+                .andReturn();
+        UUID id = UUID.fromString(mapper.readTree(created.getResponse().getContentAsString()).get("id").asText());
+
+        mockMvc.perform(head("/api/v1.0/customers/{id}", id))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(head("/api/v1.0/customers/{id}", id)
+                        .cookie(new Cookie(ReadYourWritesFilter.COOKIE, "1")))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * Replaces the replica's contents with a copy of the primary.
+     */
+    private static void replicate() throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Statement statement = primary.createStatement();
+             ResultSet rows = statement.executeQuery("SCRIPT")) {
+            while (rows.next()) {
+                script.add(rows.getString(1));
+            }
+        }
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : script) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.assignment.backend.integrationTests.repository;
+
+import com.assignment.backend.config.SecondLevelCacheConfig;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.service.impl.CustomerServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Goes through {@link CustomerServiceImpl} directly, below the service-level cache, so every read reaches Hibernate.
+ */
+@Tag("acceptance")
+@SpringBootTest
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private CustomerServiceImpl service;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void repeatedLookups_shouldBeAnsweredWithoutQueries() {
+        Customer created = service.createCustomer(customer("l2.lookup@example.com"));
+        service.getCustomerById(created.getId());
+        service.getCustomerByEmail("l2.lookup@example.com");
+        statistics.clear();
+
+        assertTrue(service.getCustomerById(created.getId()).isPresent());
+        assertTrue(service.getCustomerByEmail("L2.Lookup@example.com").isPresent());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+        assertTrue(statistics.getNaturalIdCacheHitCount() > 0);
+    }
+
+    @Test
+    void updatesAndDeletes_shouldKeepTheCacheExact() {
+        Customer created = service.createCustomer(customer("l2.before@example.com"));
+        service.getCustomerByEmail("l2.before@example.com");
+
+        service.updateCustomer(created.getId(), customer("l2.after@example.com"), null);
+        assertTrue(service.getCustomerByEmail("l2.before@example.com").isEmpty());
+        assertEquals(created.getId(), service.getCustomerByEmail("l2.after@example.com").orElseThrow().getId());
+
+        service.getCustomerById(created.getId());
+        Customer patched = service.patchCustomer(created.getId(), Map.of("givenName", "Patched"), null);
+        assertEquals("Patched", patched.getGivenName());
+        assertEquals("Patched", service.getCustomerById(created.getId()).orElseThrow().getGivenName());
+
+        service.deleteCustomer(created.getId());
+        assertTrue(service.getCustomerById(created.getId()).isEmpty());
+        assertTrue(service.getCustomerByEmail("l2.after@example.com").isEmpty());
+    }
+
+    @Test
+    void regions_shouldBeExposedAsMetrics() {
+        for (String region : new String[]{SecondLevelCacheConfig.ENTITY_REGION, SecondLevelCacheConfig.NATURAL_ID_REGION}) {
+            assertNotNull(meterRegistry.find("cache.size").tag("cache", region).meter());
+            assertNotNull(meterRegistry.find("cache.evictions").tag("cache", region).meter());
+        }
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.puts").meter());
+    }
+
+    private static Customer customer(String email) {
+        return Customer.builder()
+                .givenName("Lena")
+                .familyName("Level")
+                .emailAddress(email)
+                .contactNumber("+1234567820")
+                .build();
+    }
+}
@@ -1,16 +1,37 @@
 package com.assignment.backend.integrationTests.service;
 
+import com.assignment.backend.aop.TracingAspect;
+import com.assignment.backend.dto.BatchItemResultDTO;
+import com.assignment.backend.dto.BatchItemStatus;
+import com.assignment.backend.dto.CustomerChangeEventDTO;
+import com.assignment.backend.dto.CustomerChangeType;
+import com.assignment.backend.dto.CustomerResponseDTO;
 import com.assignment.backend.entity.Customer;
 import com.assignment.backend.exception.CustomerNotFoundException;
 import com.assignment.backend.exception.DuplicateEmailException;
+import com.assignment.backend.index.CustomerNameIndexLoader;
+import com.assignment.backend.repository.CustomerRepository;
 import com.assignment.backend.service.CustomerService;
+import com.assignment.backend.service.impl.CustomerChangeFeed;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -21,6 +42,18 @@ class CustomerServiceIntegrationTest {
     @Autowired
     private CustomerService service;
 
+    @Autowired
+    private CustomerRepository repository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CustomerChangeFeed changeFeed;
+
+    @Autowired
+    private CustomerNameIndexLoader nameIndexLoader;
+
     private Customer baseCustomer;
 
     @BeforeEach
@@ -48,6 +81,27 @@ class CustomerServiceIntegrationTest {
         assertEquals("test.create@example.com", found.getEmailAddress());
     }
 
+    @Test
+    void shouldAssignTimeOrderedIds() {
+        Customer first = service.createCustomer(baseCustomer.toBuilder().emailAddress("first.v7@example.com").build());
+        Customer second = service.createCustomer(baseCustomer.toBuilder().emailAddress("second.v7@example.com").build());
+
+        assertEquals(7, first.getId().version());
+        assertTrue(first.getId().getMostSignificantBits() >>> 16 <= second.getId().getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void shouldTimeEveryLayerOfACall() {
+        service.createCustomer(baseCustomer.toBuilder().emailAddress("traced@example.com").build());
+
+        assertNotNull(meterRegistry.find(TracingAspect.METRIC_NAME)
+                .tags("layer", "service", "class", "CachingCustomerService", "method", "createCustomer").timer());
+        assertNotNull(meterRegistry.find(TracingAspect.METRIC_NAME)
+                .tags("layer", "repository", "class", "CustomerRepository", "method", "saveAndFlush").timer());
+        assertNull(meterRegistry.find(TracingAspect.METRIC_NAME).tags("class", "EmailBloomFilter").timer());
+        assertNull(meterRegistry.find(TracingAspect.METRIC_NAME).tags("class", "CustomerNameIndex").timer());
+    }
+
     @Test
     void shouldNormalizeEmailOnCreate() {
         Customer customer = baseCustomer.toBuilder()
@@ -71,6 +125,37 @@ class CustomerServiceIntegrationTest {
         assertThrows(DuplicateEmailException.class, () -> service.createCustomer(customer2));
     }
 
+    @Test
+    void concurrentCreatesWithSameEmail_shouldLetExactlyOneWin() throws Exception {
+        int attempts = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Customer>> futures = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return service.createCustomer(baseCustomer.toBuilder().emailAddress("race@example.com").build());
+            }));
+        }
+        start.countDown();
+
+        int created = 0;
+        int duplicates = 0;
+        for (Future<Customer> future : futures) {
+            try {
+                future.get(10, TimeUnit.SECONDS);
+                created++;
+            } catch (ExecutionException ex) {
+                assertInstanceOf(DuplicateEmailException.class, ex.getCause());
+                duplicates++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(1, created);
+        assertEquals(attempts - 1, duplicates);
+    }
+
     @Test
     void shouldUpdateCustomerDetails() {
         Customer original = baseCustomer.toBuilder()
@@ -83,12 +168,30 @@ class CustomerServiceIntegrationTest {
                 .contactNumber("+1987654321")
                 .build();
 
-        Customer result = service.updateCustomer(created.getId(), update);
+        Customer result = service.updateCustomer(created.getId(), update, null);
 
         assertEquals("Updated", result.getGivenName());
         assertEquals("+1987654321", result.getContactNumber());
     }
 
+    @Test
+    void shouldServeUpdatedCustomerAfterCachedRead() {
+        Customer created = service.createCustomer(baseCustomer.toBuilder()
+                .emailAddress("cached.before@example.com")
+                .build());
+        service.getCustomerById(created.getId());
+        service.getCustomerByEmail("cached.before@example.com");
+
+        service.updateCustomer(created.getId(), created.toBuilder()
+                .givenName("Refreshed")
+                .emailAddress("cached.after@example.com")
+                .build(), null);
+
+        assertEquals("Refreshed", service.getCustomerById(created.getId()).orElseThrow().getGivenName());
+        assertTrue(service.getCustomerByEmail("cached.before@example.com").isEmpty());
+        assertTrue(service.getCustomerByEmail("CACHED.after@example.com").isPresent());
+    }
+
     @Test
     void shouldThrowIfUpdatedEmailAlreadyExists() {
         Customer one = baseCustomer.toBuilder().emailAddress("first@example.com").build();
@@ -102,7 +205,7 @@ class CustomerServiceIntegrationTest {
                 .build();
 
         assertThrows(DuplicateEmailException.class,
-                () -> service.updateCustomer(createdTwo.getId(), conflict));
+                () -> service.updateCustomer(createdTwo.getId(), conflict, null));
     }
 
     @Test
@@ -122,6 +225,127 @@ class CustomerServiceIntegrationTest {
                 () -> service.deleteCustomer(UUID.randomUUID()));
     }
 
+    @Test
+    void deleteCustomers_shouldDeleteExistingAndReportMissing() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(service.createCustomer(baseCustomer.toBuilder()
+                    .emailAddress("bulk.delete" + i + "@example.com")
+                    .build()).getId());
+        }
+        service.getCustomerById(ids.get(0));
+        UUID missing = UUID.randomUUID();
+        ids.add(missing);
+
+        List<BatchItemResultDTO> results = service.deleteCustomers(ids);
+
+        assertEquals(List.of(BatchItemStatus.DELETED, BatchItemStatus.DELETED, BatchItemStatus.DELETED,
+                BatchItemStatus.NOT_FOUND), results.stream().map(BatchItemResultDTO::getStatus).toList());
+        ids.forEach(id -> assertTrue(service.getCustomerById(id).isEmpty()));
+        assertFalse(service.existsById(ids.get(0)));
+    }
+
+    @Test
+    void concurrentDeletesOfTheSameCustomers_shouldReportEachAsDeletedOnce() throws Exception {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ids.add(service.createCustomer(baseCustomer.toBuilder()
+                    .emailAddress("racing.delete" + i + "@example.com")
+                    .build()).getId());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<BatchItemResultDTO>>> runs = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                runs.add(executor.submit(() -> {
+                    start.await();
+                    return service.deleteCustomers(ids);
+                }));
+            }
+            start.countDown();
+
+            long deleted = 0;
+            for (Future<List<BatchItemResultDTO>> run : runs) {
+                deleted += run.get(30, TimeUnit.SECONDS).stream()
+                        .filter(result -> result.getStatus() == BatchItemStatus.DELETED)
+                        .count();
+            }
+            assertEquals(ids.size(), deleted);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void changeFeed_shouldAnnounceEachWriteWithTheVersionItProduced() throws Exception {
+        LinkedBlockingQueue<CustomerChangeEventDTO> events = new LinkedBlockingQueue<>();
+        CustomerChangeFeed.Subscription subscription = changeFeed.subscribe(null, new CustomerChangeFeed.Sink() {
+            @Override
+            public void send(CustomerChangeEventDTO event) {
+                events.add(event);
+            }
+
+            @Override
+            public void heartbeat() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        try {
+            Customer created = service.createCustomer(baseCustomer.toBuilder().emailAddress("feed@example.com").build());
+            service.updateCustomer(created.getId(), baseCustomer.toBuilder()
+                    .givenName("Alicia")
+                    .emailAddress("feed@example.com")
+                    .build(), null);
+            service.patchCustomer(created.getId(), Map.of("familyName", "Patched"), null);
+            service.deleteCustomer(created.getId());
+
+            List<CustomerChangeEventDTO> received = new ArrayList<>();
+            while (received.size() < 4) {
+                CustomerChangeEventDTO event = events.poll(5, TimeUnit.SECONDS);
+                assertNotNull(event);
+                if (created.getId().equals(event.getCustomerId())) {
+                    received.add(event);
+                }
+            }
+            assertEquals(List.of(CustomerChangeType.CREATED, CustomerChangeType.UPDATED, CustomerChangeType.UPDATED,
+                    CustomerChangeType.DELETED), received.stream().map(CustomerChangeEventDTO::getType).toList());
+            assertEquals(0L, received.get(0).getVersion());
+            assertEquals(1L, received.get(1).getVersion());
+            assertEquals("Alicia", received.get(1).getCustomer().getGivenName());
+            assertEquals(2L, received.get(2).getVersion());
+            assertEquals("Patched", received.get(2).getCustomer().getFamilyName());
+        } finally {
+            subscription.cancel();
+        }
+    }
+
+    @Test
+    void getCustomersById_shouldMixCachedAndLoadedCustomersInRequestOrder() {
+        Customer first = service.createCustomer(baseCustomer.toBuilder().emailAddress("lookup.one@example.com").build());
+        Customer second = service.createCustomer(baseCustomer.toBuilder().emailAddress("lookup.two@example.com").build());
+        service.getCustomerById(second.getId());
+        UUID missing = UUID.randomUUID();
+
+        List<Customer> found = service.getCustomersById(List.of(second.getId(), missing, first.getId()));
+
+        assertEquals(List.of(second.getId(), first.getId()), found.stream().map(Customer::getId).toList());
+        assertEquals("lookup.one@example.com", found.get(1).getEmailAddress());
+    }
+
+    @Test
+    void findExisting_shouldAnswerForIdsAndEmails() {
+        Customer created = service.createCustomer(baseCustomer.toBuilder().emailAddress("exists.check@example.com").build());
+        UUID missing = UUID.randomUUID();
+
+        assertEquals(Set.of(created.getId()), service.findExistingIds(List.of(missing, created.getId())));
+        assertEquals(Set.of("Exists.Check@example.com"),
+                service.findExistingEmails(List.of("Exists.Check@example.com", "absent.check@example.com")));
+    }
+
     @Test
     void getCustomerByEmail_shouldReturnCustomer() {
         Customer customer = baseCustomer.toBuilder()
@@ -142,4 +366,69 @@ class CustomerServiceIntegrationTest {
         assertTrue(service.existsById(created.getId()));
         assertFalse(service.existsById(UUID.randomUUID()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchCustomersByName_shouldFollowCreatesUpdatesAndDeletes() {
+        Customer created = service.createCustomer(baseCustomer.toBuilder()
+                .givenName("Bartholomew")
+                .familyName("Quigley")
+                .emailAddress("name.search@example.com")
+                .build());
+
+        assertEquals(List.of(created.getId()), ids(service.searchCustomersByName("barth quig", 10)));
+
+        service.updateCustomer(created.getId(), baseCustomer.toBuilder()
+                .givenName("Bartholomew")
+                .familyName("Quimby")
+                .emailAddress("name.search@example.com")
+                .build(), null);
+        assertTrue(service.searchCustomersByName("quigley", 10).isEmpty());
+        assertEquals(List.of(created.getId()), ids(service.searchCustomersByName("quimby", 10)));
+
+        service.deleteCustomer(created.getId());
+        assertTrue(service.searchCustomersByName("bartholomew", 10).isEmpty());
+    }
+
+    @Test
+    void nameIndexRebuild_shouldPickUpCustomersWrittenPastThisInstance() {
+        Customer written = repository.saveAndFlush(baseCustomer.toBuilder()
+                .givenName("Ignatius")
+                .familyName("Elsewhere")
+                .emailAddress("other.instance@example.com")
+                .build());
+        assertTrue(service.searchCustomersByName("ignatius", 10).isEmpty());
+
+        nameIndexLoader.rebuild();
+
+        assertEquals(List.of(written.getId()), ids(service.searchCustomersByName("ignatius elsewhere", 10)));
+    }
+
+    @Test
+    void customerViews_shouldMatchTheEntities() {
+        Customer created = service.createCustomer(baseCustomer.toBuilder()
+                .emailAddress("projection@example.com")
+                .build());
+        int total = (int) repository.count();
+
+        List<CustomerResponseDTO> page = service.getCustomerViewsPage(null, total);
+        assertEquals(ids(page), service.getCustomersPage(null, total).stream().map(Customer::getId).toList());
+        CustomerResponseDTO view = page.stream()
+                .filter(candidate -> candidate.getId().equals(created.getId()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Customer not projected"));
+        assertEquals("Alice", view.getGivenName());
+        assertEquals("M", view.getMiddleName());
+        assertEquals("Walker", view.getFamilyName());
+        assertEquals("projection@example.com", view.getEmailAddress());
+        assertEquals("+1234567890", view.getContactNumber());
+
+        List<CustomerResponseDTO> exported = new ArrayList<>();
+        service.exportCustomerViews(exported::add);
+        assertEquals(total, exported.size());
+        assertTrue(ids(exported).contains(created.getId()));
+    }
+
+    private static List<UUID> ids(List<CustomerResponseDTO> customers) {
+        return customers.stream().map(CustomerResponseDTO::getId).toList();
+    }
+}
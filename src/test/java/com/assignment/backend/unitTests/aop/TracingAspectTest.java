@@ -0,0 +1,132 @@
+package com.assignment.backend.unitTests.aop;
+
+import com.assignment.backend.aop.TracingAspect;
+import com.assignment.backend.aop.TracingEndpoint;
+import com.assignment.backend.aop.TracingSettings;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.exception.CustomerNotFoundException;
+import com.assignment.backend.exception.PreconditionFailedException;
+import com.assignment.backend.service.CustomerService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TracingAspectTest {
+
+    private final UUID customerId = UUID.randomUUID();
+    private SimpleMeterRegistry registry;
+    private TracingSettings settings;
+    private CustomerService delegate;
+    private CustomerService traced;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        settings = new TracingSettings(true, 0, Duration.ofSeconds(1));
+        delegate = mock(CustomerService.class);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(delegate);
+        factory.addInterface(CustomerService.class);
+        factory.addAspect(new TracingAspect(registry, settings));
+        traced = factory.getProxy();
+    }
+
+    @Test
+    void successfulCall_shouldBeTimedWithMethodTags() {
+        when(delegate.getCustomerById(customerId)).thenReturn(Optional.empty());
+
+        traced.getCustomerById(customerId);
+        traced.getCustomerById(customerId);
+
+        Timer timer = registry.get(TracingAspect.METRIC_NAME)
+                .tags("layer", "service", "class", "CustomerService", "method", "getCustomerById", "exception", "none",
+                        "outcome", "SUCCESS")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void failedCall_shouldBeTimedWithExceptionTagAndRethrown() {
+        when(delegate.getCustomerById(customerId)).thenThrow(new CustomerNotFoundException("Customer not found"));
+
+        assertThrows(CustomerNotFoundException.class, () -> traced.getCustomerById(customerId));
+
+        assertEquals(1, registry.get(TracingAspect.METRIC_NAME)
+                .tags("method", "getCustomerById", "exception", "CustomerNotFoundException", "outcome", "CLIENT_ERROR")
+                .timer().count());
+    }
+
+    @Test
+    void versionConflicts_shouldBeCountedAsClientErrors() {
+        when(delegate.patchCustomer(eq(customerId), any(), eq(3L)))
+                .thenThrow(new PreconditionFailedException("Customer is no longer at version 3"));
+        when(delegate.patchCustomer(eq(customerId), any(), isNull()))
+                .thenThrow(new OptimisticLockingFailureException("Row was updated by another transaction"));
+
+        assertThrows(PreconditionFailedException.class, () -> traced.patchCustomer(customerId, Map.of(), 3L));
+        assertThrows(OptimisticLockingFailureException.class, () -> traced.patchCustomer(customerId, Map.of(), null));
+
+        assertEquals(2, registry.get(TracingAspect.METRIC_NAME)
+                .tags("method", "patchCustomer", "outcome", "CLIENT_ERROR")
+                .timers().stream().mapToLong(Timer::count).sum());
+        assertNull(registry.find(TracingAspect.METRIC_NAME).tags("outcome", "SERVER_ERROR").timer());
+    }
+
+    @Test
+    void unexpectedFailure_shouldBeCountedAsServerError() {
+        when(delegate.getCustomerById(customerId)).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> traced.getCustomerById(customerId));
+
+        assertEquals(1, registry.get(TracingAspect.METRIC_NAME)
+                .tags("exception", "IllegalStateException", "outcome", "SERVER_ERROR")
+                .timer().count());
+    }
+
+    @Test
+    void disabled_shouldProceedWithoutRecording() {
+        when(delegate.existsById(customerId)).thenReturn(true);
+        settings.setEnabled(false);
+
+        assertTrue(traced.existsById(customerId));
+        assertNull(registry.find(TracingAspect.METRIC_NAME).timer());
+    }
+
+    @Test
+    void summarize_shouldNeverWalkCollectionsOrEntities() {
+        List<Customer> customers = new ArrayList<>(List.of(new Customer(), new Customer(), new Customer()));
+
+        assertEquals("ArrayList[size=3]", TracingAspect.summarize(customers));
+        assertEquals("HashMap[size=0]", TracingAspect.summarize(new java.util.HashMap<>()));
+        assertEquals("Customer", TracingAspect.summarize(new Customer()));
+        assertEquals("Optional[Customer]", TracingAspect.summarize(Optional.of(new Customer())));
+        assertEquals("byte[16]", TracingAspect.summarize(new byte[16]));
+        assertEquals(customerId.toString(), TracingAspect.summarize(customerId));
+        assertEquals("x".repeat(64) + "...", TracingAspect.summarize("x".repeat(100)));
+    }
+
+    @Test
+    void endpoint_shouldUpdateOnlyGivenSettings() {
+        TracingEndpoint endpoint = new TracingEndpoint(settings);
+
+        Map<String, Object> updated = endpoint.update(null, 0.5, null);
+
+        assertEquals(true, updated.get("enabled"));
+        assertEquals(0.5, updated.get("sampleRate"));
+        assertEquals(1000L, updated.get("slowThresholdMs"));
+        assertThrows(IllegalArgumentException.class, () -> endpoint.update(null, 2.0, null));
+    }
+}
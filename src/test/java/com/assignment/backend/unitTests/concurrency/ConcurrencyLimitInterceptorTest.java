@@ -0,0 +1,57 @@
+package com.assignment.backend.unitTests.concurrency;
+
+import com.assignment.backend.concurrency.ConcurrencyLimitInterceptor;
+import com.assignment.backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitInterceptor interceptor =
+            new ConcurrencyLimitInterceptor(1, Duration.ofMillis(10), registry);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void requestBeyondLimit_shouldBeRejectedAfterTimeout() throws Exception {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        assertTrue(interceptor.preHandle(first, response, null));
+        assertEquals(1, interceptor.getActive());
+
+        assertThrows(ServiceBusyException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), response, null));
+        assertEquals(1.0, registry.get("app.concurrency.rejected").counter().count());
+        assertEquals(1.0, registry.get("app.concurrency.active").gauge().value());
+    }
+
+    @Test
+    void completedRequest_shouldReleaseItsPermitOnce() throws Exception {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        interceptor.preHandle(first, response, null);
+        interceptor.afterCompletion(first, response, null, null);
+        interceptor.afterCompletion(first, response, null, null);
+        assertEquals(0, interceptor.getActive());
+
+        MockHttpServletRequest second = new MockHttpServletRequest();
+        assertTrue(interceptor.preHandle(second, response, null));
+        assertEquals(1, interceptor.getActive());
+    }
+
+    @Test
+    void rejectedRequest_shouldNotReleaseAPermitItNeverHeld() throws Exception {
+        MockHttpServletRequest holder = new MockHttpServletRequest();
+        interceptor.preHandle(holder, response, null);
+
+        MockHttpServletRequest rejected = new MockHttpServletRequest();
+        assertThrows(ServiceBusyException.class, () -> interceptor.preHandle(rejected, response, null));
+        interceptor.afterCompletion(rejected, response, null, null);
+
+        assertEquals(1, interceptor.getActive());
+    }
+}
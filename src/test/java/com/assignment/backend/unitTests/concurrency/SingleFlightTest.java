@@ -0,0 +1,112 @@
+package com.assignment.backend.unitTests.concurrency;
+
+import com.assignment.backend.concurrency.SingleFlight;
+import com.assignment.backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofMillis(200), registry);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void sequentialCalls_shouldEachLoad() {
+        assertEquals("a1", flight.load("a", () -> "a" + loads.incrementAndGet()));
+        assertEquals("a2", flight.load("a", () -> "a" + loads.incrementAndGet()));
+        assertEquals(0.0, calls("coalesced"));
+    }
+
+    @Test
+    void callerArrivingDuringLoad_shouldShareItsResult() throws Exception {
+        Future<String> leader = executor.submit(() -> flight.load("a", this::blockingLoad));
+        loading.await();
+
+        Future<String> waiter = executor.submit(() -> flight.load("a", () -> "own load"));
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertEquals("loaded", leader.get());
+        assertEquals("loaded", waiter.get());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, calls("loaded"));
+    }
+
+    @Test
+    void failedLoad_shouldFailEveryCallerThatSharedIt() throws Exception {
+        Future<String> leader = executor.submit(() -> flight.load("a", () -> {
+            blockingLoad();
+            throw new IllegalStateException("database down");
+        }));
+        loading.await();
+        Future<String> waiter = executor.submit(() -> flight.load("a", () -> "own load"));
+        awaitCoalesced(1);
+        release.countDown();
+
+        ExecutionException failure = assertThrows(ExecutionException.class, waiter::get);
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        assertThrows(ExecutionException.class, leader::get);
+    }
+
+    @Test
+    void waiter_shouldGiveUpAfterMaximumWait() throws Exception {
+        executor.submit(() -> flight.load("a", this::blockingLoad));
+        loading.await();
+
+        assertThrows(ServiceBusyException.class, () -> flight.load("a", () -> "own load"));
+        assertEquals(1.0, calls("timed_out"));
+    }
+
+    @Test
+    void forgottenKey_shouldStartANewLoad() throws Exception {
+        executor.submit(() -> flight.load("a", this::blockingLoad));
+        loading.await();
+
+        flight.forget("a");
+
+        assertEquals("fresh", flight.load("a", () -> "fresh"));
+        assertEquals(0.0, calls("coalesced"));
+    }
+
+    private String blockingLoad() {
+        loads.incrementAndGet();
+        loading.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return "loaded";
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        while (calls("coalesced") < expected) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double calls(String result) {
+        return registry.get("app.singleflight.calls").tags("name", "test", "result", result).counter().count();
+    }
+}
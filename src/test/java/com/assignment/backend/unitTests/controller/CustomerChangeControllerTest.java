@@ -0,0 +1,79 @@
+package com.assignment.backend.unitTests.controller;
+
+import com.assignment.backend.controller.CustomerChangeController;
+import com.assignment.backend.dto.CustomerChangeEventDTO;
+import com.assignment.backend.dto.CustomerChangeType;
+import com.assignment.backend.exception.ServiceBusyException;
+import com.assignment.backend.service.impl.CustomerChangeFeed;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CustomerChangeController.class)
+class CustomerChangeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private CustomerChangeFeed changeFeed;
+
+    @Test
+    void streamChanges_shouldWriteEventsAsServerSentEvents() throws Exception {
+        ArgumentCaptor<CustomerChangeFeed.Sink> sink = ArgumentCaptor.forClass(CustomerChangeFeed.Sink.class);
+        Mockito.when(changeFeed.subscribe(isNull(), sink.capture()))
+                .thenReturn(Mockito.mock(CustomerChangeFeed.Subscription.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1.0/customers/changes"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        UUID id = UUID.randomUUID();
+        sink.getValue().send(CustomerChangeEventDTO.builder()
+                .id("abc-7")
+                .type(CustomerChangeType.DELETED)
+                .customerId(id)
+                .build());
+        sink.getValue().close();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString("text/event-stream")))
+                .andExpect(content().string(containsString("id:abc-7\n")))
+                .andExpect(content().string(containsString("\"type\":\"DELETED\"")))
+                .andExpect(content().string(containsString("\"customerId\":\"" + id + "\"")));
+    }
+
+    @Test
+    void streamChanges_shouldResumeFromLastEventId() throws Exception {
+        Mockito.when(changeFeed.subscribe(eq("abc-7"), any()))
+                .thenReturn(Mockito.mock(CustomerChangeFeed.Subscription.class));
+
+        mockMvc.perform(get("/api/v1.0/customers/changes").header("Last-Event-ID", "abc-7"))
+                .andExpect(request().asyncStarted());
+
+        Mockito.verify(changeFeed).subscribe(eq("abc-7"), any());
+    }
+
+    @Test
+    void streamChanges_tooManySubscribers_shouldReturn503() throws Exception {
+        Mockito.when(changeFeed.subscribe(any(), any()))
+                .thenThrow(new ServiceBusyException("Too many subscribers to the customer change feed, retry later"));
+
+        mockMvc.perform(get("/api/v1.0/customers/changes"))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
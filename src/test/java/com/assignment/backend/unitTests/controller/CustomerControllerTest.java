@@ -1,9 +1,14 @@
 package com.assignment.backend.unitTests.controller;
 
 import com.assignment.backend.controller.CustomerController;
+import com.assignment.backend.dto.BatchItemResultDTO;
+import com.assignment.backend.dto.BatchItemStatus;
+import com.assignment.backend.dto.CustomerPageCursor;
 import com.assignment.backend.dto.CustomerRequestDTO;
+import com.assignment.backend.dto.CustomerResponseDTO;
 import com.assignment.backend.entity.Customer;
 import com.assignment.backend.exception.CustomerNotFoundException;
+import com.assignment.backend.exception.PreconditionFailedException;
 import com.assignment.backend.service.CustomerService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -13,13 +18,22 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -46,13 +60,71 @@ class CustomerControllerTest {
                 .build();
     }
 
+    private CustomerResponseDTO testView(String givenName) {
+        return new CustomerResponseDTO(testId, givenName, "M", "Smith", "alice@example.com", "+1234567890");
+    }
+
     @Test
     void getAllCustomers_shouldReturnList() throws Exception {
-        Mockito.when(service.getAllCustomers()).thenReturn(List.of(testCustomer()));
+        Mockito.when(service.getCustomerViewsPage(null, 50)).thenReturn(List.of(testView("Alice")));
 
         mockMvc.perform(get("/api/v1.0/customers"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].givenName").value("Alice"));
+                .andExpect(jsonPath("$[0].givenName").value("Alice"))
+                .andExpect(header().doesNotExist("Link"));
+    }
+
+    @Test
+    void getAllCustomers_fullPage_shouldLinkToNextPage() throws Exception {
+        Mockito.when(service.getCustomerViewsPage(null, 1)).thenReturn(List.of(testView("Alice")));
+        String cursor = CustomerPageCursor.encode(testId);
+
+        mockMvc.perform(get("/api/v1.0/customers").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Link",
+                        "</api/v1.0/customers?cursor=" + cursor + "&size=1>; rel=\"next\""));
+    }
+
+    @Test
+    void getAllCustomers_withCursor_shouldContinueAfterDecodedId() throws Exception {
+        Mockito.when(service.getCustomerViewsPage(testId, 50)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1.0/customers").param("cursor", CustomerPageCursor.encode(testId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    void getAllCustomers_invalidCursor_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1.0/customers").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getAllCustomers_pageSizeTooLarge_shouldFailValidation() throws Exception {
+        mockMvc.perform(get("/api/v1.0/customers").param("size", "501"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportCustomers_shouldStreamOneJsonObjectPerLine() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            Consumer<CustomerResponseDTO> sink = invocation.getArgument(0);
+            sink.accept(testView("Alice"));
+            sink.accept(testView("Bob"));
+            return null;
+        }).when(service).exportCustomerViews(any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1.0/customers/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("Alice", objectMapper.readTree(lines[0]).get("givenName").asText());
+        assertEquals("Bob", objectMapper.readTree(lines[1]).get("givenName").asText());
     }
 
     @Test
@@ -64,6 +136,41 @@ class CustomerControllerTest {
                 .andExpect(jsonPath("$.emailAddress").value("alice@example.com"));
     }
 
+    @Test
+    void getCustomerById_shouldReturnVersionAsETag() throws Exception {
+        Customer customer = testCustomer();
+        customer.setVersion(3L);
+        Mockito.when(service.getCustomerById(testId)).thenReturn(Optional.of(customer));
+
+        mockMvc.perform(get("/api/v1.0/customers/{id}", testId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @Test
+    void getCustomerById_ifNoneMatchCurrent_shouldReturnNotModifiedWithoutLoading() throws Exception {
+        Mockito.when(service.getCustomerVersion(testId)).thenReturn(Optional.of(3L));
+
+        mockMvc.perform(get("/api/v1.0/customers/{id}", testId).header("If-None-Match", "W/\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+        Mockito.verify(service, Mockito.never()).getCustomerById(any());
+    }
+
+    @Test
+    void getCustomerById_ifNoneMatchStale_shouldReturnCustomer() throws Exception {
+        Customer customer = testCustomer();
+        customer.setVersion(4L);
+        Mockito.when(service.getCustomerVersion(testId)).thenReturn(Optional.of(4L));
+        Mockito.when(service.getCustomerById(testId)).thenReturn(Optional.of(customer));
+
+        mockMvc.perform(get("/api/v1.0/customers/{id}", testId).header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.givenName").value("Alice"));
+    }
+
     @Test
     void getCustomerById_notFound() throws Exception {
         Mockito.when(service.getCustomerById(testId)).thenReturn(Optional.empty());
@@ -81,6 +188,21 @@ class CustomerControllerTest {
                 .andExpect(jsonPath("$.familyName").value("Smith"));
     }
 
+    @Test
+    void searchCustomersByName_shouldReturnRankedMatches() throws Exception {
+        Mockito.when(service.searchCustomersByName("ali smi", 5)).thenReturn(List.of(testView("Alice")));
+
+        mockMvc.perform(get("/api/v1.0/customers/search").param("name", "ali smi").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].givenName").value("Alice"));
+    }
+
+    @Test
+    void searchCustomersByName_limitTooLarge_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1.0/customers/search").param("name", "alice").param("limit", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void createCustomer_validRequest() throws Exception {
         CustomerRequestDTO dto = CustomerRequestDTO.builder()
@@ -116,6 +238,121 @@ class CustomerControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void createCustomers_shouldReturnPerItemResults() throws Exception {
+        CustomerRequestDTO dto = CustomerRequestDTO.builder()
+                .givenName("Alice")
+                .familyName("Smith")
+                .emailAddress("alice@example.com")
+                .contactNumber("+1234567890")
+                .build();
+
+        Mockito.when(service.createCustomers(anyList())).thenReturn(List.of(
+                BatchItemResultDTO.builder().index(0).id(testId).status(BatchItemStatus.CREATED).build(),
+                BatchItemResultDTO.builder().index(1).status(BatchItemStatus.CONFLICT).build()));
+
+        mockMvc.perform(post("/api/v1.0/customers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(dto, dto))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[1].status").value("CONFLICT"))
+                .andExpect(jsonPath("$[1].id").doesNotExist());
+    }
+
+    @Test
+    void createCustomers_invalidItem_shouldFailValidation() throws Exception {
+        CustomerRequestDTO invalid = CustomerRequestDTO.builder()
+                .givenName("Alice")
+                .familyName("Smith")
+                .emailAddress("invalid-email")
+                .contactNumber("+1234567890")
+                .build();
+
+        mockMvc.perform(post("/api/v1.0/customers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(invalid))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void lookupCustomers_shouldReturnFoundAndMissing() throws Exception {
+        UUID missing = UUID.randomUUID();
+        Mockito.when(service.getCustomersById(List.of(missing, testId))).thenReturn(List.of(testCustomer()));
+
+        mockMvc.perform(post("/api/v1.0/customers/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(missing, testId))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customers[0].id").value(testId.toString()))
+                .andExpect(jsonPath("$.missing[0]").value(missing.toString()));
+    }
+
+    @Test
+    void lookupCustomers_tooManyIds_shouldFailValidation() throws Exception {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1001; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        mockMvc.perform(post("/api/v1.0/customers/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void checkManyExist_shouldReturnExistingIdsAndEmails() throws Exception {
+        UUID missing = UUID.randomUUID();
+        Mockito.when(service.findExistingIds(List.of(testId, missing))).thenReturn(Set.of(testId));
+        Mockito.when(service.findExistingEmails(List.of("alice@example.com"))).thenReturn(Set.of());
+
+        mockMvc.perform(post("/api/v1.0/customers/exists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "ids", List.of(testId, missing),
+                                "emails", List.of("alice@example.com")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ids.length()").value(1))
+                .andExpect(jsonPath("$.ids[0]").value(testId.toString()))
+                .andExpect(jsonPath("$.emails").isEmpty());
+    }
+
+    @Test
+    void checkManyExist_idsOnly_shouldNotCheckEmails() throws Exception {
+        Mockito.when(service.findExistingIds(List.of(testId))).thenReturn(Set.of(testId));
+
+        mockMvc.perform(post("/api/v1.0/customers/exists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("ids", List.of(testId)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ids[0]").value(testId.toString()));
+        Mockito.verify(service, Mockito.never()).findExistingEmails(anyList());
+    }
+
+    @Test
+    void deleteCustomers_shouldReturnPerItemResults() throws Exception {
+        UUID missing = UUID.randomUUID();
+        Mockito.when(service.deleteCustomers(List.of(testId, missing))).thenReturn(List.of(
+                BatchItemResultDTO.builder().index(0).id(testId).status(BatchItemStatus.DELETED).build(),
+                BatchItemResultDTO.builder().index(1).id(missing).status(BatchItemStatus.NOT_FOUND).build()));
+
+        mockMvc.perform(post("/api/v1.0/customers/batch/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(testId, missing))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("DELETED"))
+                .andExpect(jsonPath("$[1].status").value("NOT_FOUND"));
+    }
+
+    @Test
+    void deleteCustomers_emptyBatch_shouldFailValidation() throws Exception {
+        mockMvc.perform(post("/api/v1.0/customers/batch/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void updateCustomer_shouldReturnOk() throws Exception {
         CustomerRequestDTO dto = CustomerRequestDTO.builder()
@@ -126,7 +363,7 @@ class CustomerControllerTest {
                 .contactNumber("+1234567890")
                 .build();
 
-        Mockito.when(service.updateCustomer(eq(testId), any(Customer.class))).thenReturn(testCustomer());
+        Mockito.when(service.updateCustomer(eq(testId), any(Customer.class), isNull())).thenReturn(testCustomer());
 
         mockMvc.perform(put("/api/v1.0/customers/{id}", testId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -135,6 +372,34 @@ class CustomerControllerTest {
                 .andExpect(jsonPath("$.emailAddress").value("alice@example.com"));
     }
 
+    @Test
+    void updateCustomer_staleIfMatch_shouldReturnPreconditionFailed() throws Exception {
+        CustomerRequestDTO dto = CustomerRequestDTO.builder()
+                .givenName("Alice")
+                .familyName("Smith")
+                .emailAddress("alice@example.com")
+                .contactNumber("+1234567890")
+                .build();
+        Mockito.when(service.updateCustomer(eq(testId), any(Customer.class), eq(3L)))
+                .thenThrow(new PreconditionFailedException("Customer is no longer at version 3"));
+
+        mockMvc.perform(put("/api/v1.0/customers/{id}", testId)
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void mergePatch_weakIfMatch_shouldReturnPreconditionFailed() throws Exception {
+        mockMvc.perform(patch("/api/v1.0/customers/{id}", testId)
+                        .header("If-Match", "W/\"3\"")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"givenName\":\"Alicia\"}"))
+                .andExpect(status().isPreconditionFailed());
+        Mockito.verify(service, Mockito.never()).patchCustomer(any(), any(), any());
+    }
+
     @Test
     void deleteCustomer_shouldReturnNoContent() throws Exception {
         mockMvc.perform(delete("/api/v1.0/customers/{id}", testId))
@@ -143,21 +408,73 @@ class CustomerControllerTest {
 
     @Test
     void patchContactNumber_valid() throws Exception {
-        Mockito.when(service.getCustomerById(testId)).thenReturn(Optional.of(testCustomer()));
-        Mockito.when(service.updateCustomer(eq(testId), any(Customer.class))).thenReturn(testCustomer());
+        Mockito.when(service.patchCustomer(testId, Map.of("contactNumber", "+19876543210"), null))
+                .thenReturn(testCustomer());
 
         mockMvc.perform(patch("/api/v1.0/customers/{id}/contact", testId)
                         .param("contactNumber", "+19876543210"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.givenName").value("Alice"));
+        Mockito.verify(service, Mockito.never()).getCustomerById(any());
+    }
+
+    @Test
+    void patchContactNumber_unknownCustomer_shouldReturnNotFound() throws Exception {
+        Mockito.when(service.patchCustomer(eq(testId), any(), any()))
+                .thenThrow(new CustomerNotFoundException("Customer not found"));
+
+        mockMvc.perform(patch("/api/v1.0/customers/{id}/contact", testId)
+                        .param("contactNumber", "+19876543210"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void mergePatch_shouldPassOnlyPresentMembers() throws Exception {
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("givenName", "Alicia");
+        expected.put("middleName", null);
+        Mockito.when(service.patchCustomer(testId, expected, null)).thenReturn(testCustomer());
+
+        mockMvc.perform(patch("/api/v1.0/customers/{id}", testId)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"givenName\":\"Alicia\",\"middleName\":null}"))
+                .andExpect(status().isOk());
+        Mockito.verify(service).patchCustomer(testId, expected, null);
+    }
+
+    @Test
+    void mergePatch_removingRequiredField_shouldFailValidation() throws Exception {
+        mockMvc.perform(patch("/api/v1.0/customers/{id}", testId)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"familyName\":null}"))
+                .andExpect(status().isBadRequest());
+        Mockito.verify(service, Mockito.never()).patchCustomer(any(), any(), any());
+    }
+
+    @Test
+    void mergePatch_invalidEmail_shouldFailValidation() throws Exception {
+        mockMvc.perform(patch("/api/v1.0/customers/{id}", testId)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"emailAddress\":\"not-an-email\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void mergePatch_unknownField_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(patch("/api/v1.0/customers/{id}", testId)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"id\":\"" + UUID.randomUUID() + "\"}"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
     void headRequest_shouldReturnOkOrNotFound() throws Exception {
-        Mockito.when(service.getCustomerById(testId)).thenReturn(Optional.of(testCustomer()));
+        Mockito.when(service.getCustomerVersion(testId)).thenReturn(Optional.of(3L));
 
         mockMvc.perform(head("/api/v1.0/customers/{id}", testId))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+        Mockito.verify(service, Mockito.never()).getCustomerById(any());
     }
 
     @Test
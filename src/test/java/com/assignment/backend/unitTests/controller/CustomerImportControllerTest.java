@@ -0,0 +1,86 @@
+package com.assignment.backend.unitTests.controller;
+
+import com.assignment.backend.controller.CustomerImportController;
+import com.assignment.backend.dto.ImportErrorDTO;
+import com.assignment.backend.dto.ImportJobDTO;
+import com.assignment.backend.dto.ImportJobStatus;
+import com.assignment.backend.exception.ServiceBusyException;
+import com.assignment.backend.service.CustomerImportService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CustomerImportController.class)
+class CustomerImportControllerTest {
+
+    private final UUID jobId = UUID.randomUUID();
+    private final MockMultipartFile csv = new MockMultipartFile("file", "customers.csv", "text/csv",
+            "givenName,familyName,emailAddress,contactNumber\nAnn,Lee,ann@example.com,+1234567890\n".getBytes());
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private CustomerImportService importService;
+
+    @Test
+    void startImport_shouldReturnAcceptedWithLocation() throws Exception {
+        Mockito.when(importService.startImport(eq("customers.csv"), any(Path.class)))
+                .thenReturn(ImportJobDTO.builder().id(jobId).status(ImportJobStatus.QUEUED).build());
+
+        mockMvc.perform(multipart("/api/v1.0/customers/imports").file(csv))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1.0/customers/imports/" + jobId))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    void startImport_queueFull_shouldReturnServiceUnavailable() throws Exception {
+        Mockito.when(importService.startImport(any(), any(Path.class)))
+                .thenThrow(new ServiceBusyException("Import queue is full, retry later"));
+
+        mockMvc.perform(multipart("/api/v1.0/customers/imports").file(csv))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void getJob_found() throws Exception {
+        Mockito.when(importService.getJob(jobId)).thenReturn(Optional.of(
+                ImportJobDTO.builder().id(jobId).status(ImportJobStatus.RUNNING).rowsProcessed(42).build()));
+
+        mockMvc.perform(get("/api/v1.0/customers/imports/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsProcessed").value(42));
+    }
+
+    @Test
+    void getJob_notFound() throws Exception {
+        Mockito.when(importService.getJob(jobId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1.0/customers/imports/{jobId}", jobId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getErrors_shouldListFailedRows() throws Exception {
+        Mockito.when(importService.getErrors(jobId)).thenReturn(Optional.of(
+                List.of(ImportErrorDTO.builder().line(3).message("emailAddress: must be valid").build())));
+
+        mockMvc.perform(get("/api/v1.0/customers/imports/{jobId}/errors", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].line").value(3));
+    }
+}
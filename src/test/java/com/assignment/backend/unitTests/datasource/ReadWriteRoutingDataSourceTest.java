@@ -0,0 +1,80 @@
+package com.assignment.backend.unitTests.datasource;
+
+import com.assignment.backend.datasource.PrimaryReadScope;
+import com.assignment.backend.datasource.ReadWriteRoutingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readWriteWork_shouldGoToPrimary() throws Exception {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, registry);
+
+        assertSame(primaryConnection, routing.getConnection());
+        verify(replica, never()).getConnection();
+        assertEquals(1.0, registry.get("app.datasource.connections").tag("route", "primary").counter().count());
+    }
+
+    @Test
+    void readOnlyTransaction_shouldGoToReplica() throws Exception {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, registry);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(replicaConnection, routing.getConnection());
+        assertEquals(1.0, registry.get("app.datasource.connections").tag("route", "replica").counter().count());
+    }
+
+    @Test
+    void primaryReadScope_shouldSendReadOnlyTransactionsToPrimaryUntilClosed() throws Exception {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, registry);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (PrimaryReadScope outer = PrimaryReadScope.open()) {
+            try (PrimaryReadScope inner = PrimaryReadScope.open()) {
+                assertSame(primaryConnection, routing.getConnection());
+            }
+            assertSame(primaryConnection, routing.getConnection());
+        }
+        assertFalse(PrimaryReadScope.isActive());
+        assertSame(replicaConnection, routing.getConnection());
+    }
+
+    @Test
+    void lazyDataSource_shouldRouteAtFirstStatementNotAtGetConnection() throws Exception {
+        DataSource lazy = ReadWriteRoutingDataSource.lazy(primary, replica, registry);
+
+        Connection connection = lazy.getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        connection.createStatement();
+
+        verify(replicaConnection).createStatement();
+        verify(primaryConnection, never()).createStatement();
+    }
+}
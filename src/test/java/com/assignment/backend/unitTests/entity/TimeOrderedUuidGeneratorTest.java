@@ -0,0 +1,50 @@
+package com.assignment.backend.unitTests.entity;
+
+import com.assignment.backend.entity.TimeOrderedUuidGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    void next_shouldProduceVersion7RfcVariantUuids() {
+        UUID id = TimeOrderedUuidGenerator.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void next_shouldEncodeTimestampInLeadingBits() {
+        long millis = 1_700_000_000_123L;
+
+        UUID id = TimeOrderedUuidGenerator.next(millis);
+
+        assertEquals(millis, id.getMostSignificantBits() >>> 16);
+        assertTrue(id.toString().startsWith("018bcfe5-687b-7"));
+    }
+
+    @Test
+    void next_laterMillisecond_shouldSortAfterEarlierOne() {
+        UUID earlier = TimeOrderedUuidGenerator.next(1_700_000_000_000L);
+        UUID later = TimeOrderedUuidGenerator.next(1_700_000_000_001L);
+
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(earlier.toString().compareTo(later.toString()) < 0);
+    }
+
+    @Test
+    void next_sameMillisecond_shouldStillBeUnique() {
+        Set<UUID> ids = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(TimeOrderedUuidGenerator.next(1_700_000_000_000L));
+        }
+
+        assertEquals(100_000, ids.size());
+    }
+}
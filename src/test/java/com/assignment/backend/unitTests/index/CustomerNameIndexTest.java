@@ -0,0 +1,156 @@
+package com.assignment.backend.unitTests.index;
+
+import com.assignment.backend.dto.CustomerNameView;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.exception.ServiceBusyException;
+import com.assignment.backend.index.CustomerNameIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerNameIndexTest {
+
+    private final CustomerNameIndex index = new CustomerNameIndex();
+    private final UUID johnSmith = UUID.randomUUID();
+    private final UUID johannaSmithers = UUID.randomUUID();
+    private final UUID jonathanDoe = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        index.startRebuild();
+        index.load(new CustomerNameView(johnSmith, "John", "Smith"));
+        index.load(new CustomerNameView(johannaSmithers, "Johanna", "Smithers"));
+        index.load(new CustomerNameView(jonathanDoe, "Jonathan", "Doe"));
+        index.finishRebuild();
+    }
+
+    @Test
+    void search_shouldRankExactTokensBeforePrefixes() {
+        assertEquals(List.of(johnSmith, johannaSmithers), index.search("john smith", 10));
+    }
+
+    @Test
+    void search_shouldMatchPrefixesOfAnyNameCaseAndAccentInsensitively() {
+        assertEquals(List.of(jonathanDoe), index.search("DÖ", 10));
+        assertEquals(List.of(johnSmith, johannaSmithers), index.search("smi", 10));
+    }
+
+    @Test
+    void search_shouldMatchCloseSpellings() {
+        assertEquals(List.of(jonathanDoe), index.search("jonathon", 10));
+    }
+
+    @Test
+    void search_shouldHonourLimit() {
+        assertEquals(1, index.search("jo", 1).size());
+    }
+
+    @Test
+    void put_shouldReplacePreviousNames() {
+        index.put(customer(johnSmith, "John", "Carpenter"));
+
+        assertEquals(List.of(johannaSmithers), index.search("smith", 10));
+        assertEquals(List.of(johnSmith), index.search("carp", 10));
+    }
+
+    @Test
+    void remove_shouldDropCustomer() {
+        index.remove(jonathanDoe);
+
+        assertTrue(index.search("jonathan", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void manyRewrites_shouldCompactWithoutLosingCustomers() {
+        for (int i = 0; i < 5000; i++) {
+            index.put(customer(johnSmith, "John", i % 2 == 0 ? "Smith" : "Smyth"));
+        }
+
+        assertEquals(3, index.size());
+        assertEquals(List.of(johnSmith, johannaSmithers), index.search("john smith", 10));
+    }
+
+    @Test
+    void search_tooShortQuery_shouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> index.search(" j ", 10));
+    }
+
+    @Test
+    void search_beforeLoadCompletes_shouldReportBusy() {
+        CustomerNameIndex loading = new CustomerNameIndex();
+        assertThrows(ServiceBusyException.class, () -> loading.search("john", 10));
+    }
+
+    @Test
+    void load_shouldNotResurrectCustomerRemovedWhileLoading() {
+        CustomerNameIndex loading = new CustomerNameIndex();
+        UUID id = UUID.randomUUID();
+        loading.startRebuild();
+        loading.remove(id);
+        loading.load(new CustomerNameView(id, "Ghost", "Row"));
+        loading.finishRebuild();
+
+        assertTrue(loading.search("ghost", 10).isEmpty());
+    }
+
+    @Test
+    void rebuild_shouldPickUpWritesMadeThroughOtherInstances() {
+        UUID createdElsewhere = UUID.randomUUID();
+        index.startRebuild();
+        index.load(new CustomerNameView(johnSmith, "John", "Smith"));
+        index.load(new CustomerNameView(johannaSmithers, "Johanna", "Carpenter"));
+        index.load(new CustomerNameView(createdElsewhere, "Quentin", "Smith"));
+
+        assertTrue(index.search("carpenter", 10).isEmpty(), "searches use the current index meanwhile");
+        index.finishRebuild();
+
+        assertEquals(List.of(johnSmith, createdElsewhere), index.search("smith", 10));
+        assertEquals(List.of(johannaSmithers), index.search("carpenter", 10));
+        assertTrue(index.search("jonathan", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void writesDuringRebuild_shouldTakePrecedenceOverTheRowsRead() {
+        index.startRebuild();
+        index.put(customer(johnSmith, "John", "Carpenter"));
+        index.remove(jonathanDoe);
+        index.load(new CustomerNameView(johnSmith, "John", "Smith"));
+        index.load(new CustomerNameView(johannaSmithers, "Johanna", "Smithers"));
+        index.load(new CustomerNameView(jonathanDoe, "Jonathan", "Doe"));
+
+        assertEquals(List.of(johnSmith), index.search("carp", 10));
+        index.finishRebuild();
+
+        assertEquals(List.of(johnSmith), index.search("carp", 10));
+        assertEquals(List.of(johannaSmithers), index.search("smith", 10));
+        assertTrue(index.search("jonathan", 10).isEmpty());
+    }
+
+    @Test
+    void abortedRebuild_shouldKeepTheCurrentIndex() {
+        index.startRebuild();
+        index.load(new CustomerNameView(UUID.randomUUID(), "Partial", "Row"));
+        index.abortRebuild();
+        index.put(customer(jonathanDoe, "Jonathan", "Doe"));
+
+        assertTrue(index.search("partial", 10).isEmpty());
+        assertEquals(List.of(johnSmith, johannaSmithers), index.search("john smith", 10));
+        assertEquals(3, index.size());
+    }
+
+    private static Customer customer(UUID id, String givenName, String familyName) {
+        return Customer.builder()
+                .id(id)
+                .givenName(givenName)
+                .familyName(familyName)
+                .emailAddress(givenName.toLowerCase() + "@example.com")
+                .contactNumber("+1234567890")
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.assignment.backend.unitTests.index;
+
+import com.assignment.backend.index.EmailBloomFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailBloomFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final EmailBloomFilter filter = new EmailBloomFilter(registry, 0.01, Duration.ofMinutes(10));
+
+    @Test
+    void beforeFirstBuild_everyEmailMightBePresent() {
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain("anyone@example.com"));
+    }
+
+    @Test
+    void loadedEmails_shouldNeverBeReportedAbsent() {
+        build(10_000);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(email(i)), email(i));
+        }
+    }
+
+    @Test
+    void falsePositiveRate_shouldStayNearConfiguredRate() {
+        build(10_000);
+
+        int falsePositives = 0;
+        for (int i = 10_000; i < 110_000; i++) {
+            if (filter.mightContain(email(i))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        assertEquals(100_000 - falsePositives,
+                registry.get("customer.email.filter.checks").tag("result", "absent").counter().count());
+    }
+
+    @Test
+    void emailsWrittenJustBeforeRebuild_shouldSurviveIt() {
+        build(10);
+        filter.put("late.commit@example.com");
+
+        filter.startRebuild(10);
+        filter.put("during.rebuild@example.com");
+        filter.finishRebuild();
+
+        assertTrue(filter.mightContain("late.commit@example.com"));
+        assertTrue(filter.mightContain("during.rebuild@example.com"));
+    }
+
+    @Test
+    void filterOlderThanMaxAge_shouldNoLongerRuleOutEmails() {
+        EmailBloomFilter aged = new EmailBloomFilter(registry, 0.01, Duration.ofNanos(1));
+        aged.startRebuild(10);
+        aged.load(email(0));
+        aged.finishRebuild();
+
+        assertTrue(aged.mightContain("created.elsewhere@example.com"));
+        assertEquals(1.0, registry.get("customer.email.filter.checks").tag("result", "stale").counter().count());
+    }
+
+    @Test
+    void metrics_shouldReportMemoryAndExpectedFalsePositiveRate() {
+        build(10_000);
+
+        assertTrue(registry.get("customer.email.filter.memory").gauge().value() > 10_000);
+        double fpp = registry.get("customer.email.filter.expected.fpp").gauge().value();
+        assertTrue(fpp > 0 && fpp < 0.02, "expected fpp: " + fpp);
+    }
+
+    private void build(int emails) {
+        filter.startRebuild(emails);
+        for (int i = 0; i < emails; i++) {
+            filter.load(email(i));
+        }
+        filter.finishRebuild();
+    }
+
+    private static String email(int i) {
+        return "customer" + i + "@example.com";
+    }
+}
@@ -0,0 +1,105 @@
+package com.assignment.backend.unitTests.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.util.Duration;
+import com.assignment.backend.logging.LogShippingMetrics;
+import com.assignment.backend.logging.MeteredLogstashTcpSocketAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeteredLogstashTcpSocketAppenderTest {
+
+    private final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private MeteredLogstashTcpSocketAppender appender;
+
+    @AfterEach
+    void tearDown() {
+        if (appender != null) {
+            appender.stop();
+        }
+    }
+
+    @Test
+    void events_shouldBeShippedAsJsonLinesToTcpSink() throws Exception {
+        try (ServerSocket sink = new ServerSocket(0)) {
+            appender = startAppender("localhost:" + sink.getLocalPort(), 1024);
+
+            for (int i = 0; i < 3; i++) {
+                appender.doAppend(event("shipped " + i));
+            }
+
+            List<String> lines = new ArrayList<>();
+            try (Socket connection = sink.accept()) {
+                connection.setSoTimeout(5000);
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+                while (lines.size() < 3) {
+                    lines.add(reader.readLine());
+                }
+            }
+            assertTrue(lines.get(0).startsWith("{") && lines.get(0).contains("\"message\":\"shipped 0\""));
+            assertTrue(lines.get(2).contains("\"message\":\"shipped 2\""));
+            assertEquals(0, appender.getDroppedCount());
+        }
+    }
+
+    @Test
+    void unreachableLogstash_shouldDropEventsInsteadOfBlockingCallers() throws Exception {
+        int unusedPort;
+        try (ServerSocket probe = new ServerSocket(0)) {
+            unusedPort = probe.getLocalPort();
+        }
+        appender = startAppender("localhost:" + unusedPort, 16);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LogShippingMetrics.bind(registry, appender);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            appender.doAppend(event("dropped " + i));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 2000, "appending took " + elapsedMillis + " ms");
+        assertTrue(appender.getDroppedCount() > 0);
+        assertEquals(appender.getDroppedCount(), registry.get("logging.shipping.events.dropped").functionCounter().count());
+        assertEquals(16, registry.get("logging.shipping.queue.capacity").gauge().value());
+        assertTrue(registry.get("logging.shipping.queue.depth").gauge().value() <= 16);
+    }
+
+    private MeteredLogstashTcpSocketAppender startAppender(String destination, int ringBufferSize) {
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.start();
+
+        MeteredLogstashTcpSocketAppender tcpAppender = new MeteredLogstashTcpSocketAppender();
+        tcpAppender.setContext(context);
+        tcpAppender.setName("test");
+        tcpAppender.addDestination(destination);
+        tcpAppender.setRingBufferSize(ringBufferSize);
+        tcpAppender.setReconnectionDelay(Duration.buildBySeconds(30));
+        tcpAppender.setShutdownGracePeriod(Duration.buildByMilliseconds(100));
+        tcpAppender.setEncoder(encoder);
+        tcpAppender.start();
+        return tcpAppender;
+    }
+
+    private LoggingEvent event(String message) {
+        return new LoggingEvent(getClass().getName(), context.getLogger(getClass()), Level.INFO, message, null, null);
+    }
+}
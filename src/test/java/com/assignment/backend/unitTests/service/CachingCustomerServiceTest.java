@@ -0,0 +1,212 @@
+package com.assignment.backend.unitTests.service;
+
+import com.assignment.backend.config.CacheConfig;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.service.impl.CachingCustomerService;
+import com.assignment.backend.service.impl.CustomerServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingCustomerServiceTest {
+
+    private final UUID customerId = UUID.randomUUID();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    @Mock
+    private CustomerServiceImpl delegate;
+    private CachingCustomerService service;
+    private Customer sampleCustomer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        service = new CachingCustomerService(delegate,
+                new ConcurrentMapCacheManager(CacheConfig.CUSTOMERS_BY_ID, CacheConfig.CUSTOMERS_BY_EMAIL),
+                registry, Duration.ofSeconds(5));
+
+        sampleCustomer = Customer.builder()
+                .id(customerId)
+                .givenName("John")
+                .familyName("Doe")
+                .emailAddress("john@example.com")
+                .contactNumber("+1234567890")
+                .build();
+    }
+
+    @Test
+    void getCustomerById_secondCall_shouldBeServedFromCache() {
+        when(delegate.getCustomerById(customerId)).thenReturn(Optional.of(sampleCustomer));
+
+        service.getCustomerById(customerId);
+        Optional<Customer> second = service.getCustomerById(customerId);
+
+        assertEquals("John", second.orElseThrow().getGivenName());
+        verify(delegate, times(1)).getCustomerById(customerId);
+    }
+
+    @Test
+    void getCustomerById_shouldReturnCopiesThatCannotCorruptTheCache() {
+        when(delegate.getCustomerById(customerId)).thenReturn(Optional.of(sampleCustomer));
+
+        service.getCustomerById(customerId).orElseThrow().setGivenName("Mutated");
+
+        assertEquals("John", service.getCustomerById(customerId).orElseThrow().getGivenName());
+    }
+
+    @Test
+    void getCustomerById_missingCustomer_shouldNotBeCached() {
+        when(delegate.getCustomerById(customerId)).thenReturn(Optional.empty());
+
+        service.getCustomerById(customerId);
+        service.getCustomerById(customerId);
+
+        verify(delegate, times(2)).getCustomerById(customerId);
+    }
+
+    @Test
+    void getCustomersById_shouldLoadOnlyTheMissesInRequestOrder() {
+        UUID otherId = UUID.randomUUID();
+        Customer other = sampleCustomer.toBuilder().id(otherId).emailAddress("other@example.com").build();
+        UUID unknownId = UUID.randomUUID();
+        when(delegate.getCustomerById(customerId)).thenReturn(Optional.of(sampleCustomer));
+        when(delegate.getCustomersById(List.of(otherId, unknownId))).thenReturn(List.of(other));
+        service.getCustomerById(customerId);
+
+        List<Customer> found = service.getCustomersById(List.of(otherId, customerId, unknownId, otherId));
+
+        assertEquals(List.of(otherId, customerId), found.stream().map(Customer::getId).toList());
+        service.getCustomerById(otherId);
+        verify(delegate, never()).getCustomerById(otherId);
+    }
+
+    @Test
+    void getCustomerById_concurrentMisses_shouldShareOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getCustomerById(customerId)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Optional.of(sampleCustomer);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<Optional<Customer>> leader = executor.submit(() -> service.getCustomerById(customerId));
+            loading.await();
+            List<Future<Optional<Customer>>> waiters = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                waiters.add(executor.submit(() -> service.getCustomerById(customerId)));
+            }
+            while (registry.counter("app.singleflight.calls", "name", "customer.by.id", "result", "coalesced").count() < 3) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertEquals("John", leader.get().orElseThrow().getGivenName());
+            for (Future<Optional<Customer>> waiter : waiters) {
+                assertEquals("John", waiter.get().orElseThrow().getGivenName());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(delegate, times(1)).getCustomerById(customerId);
+    }
+
+    @Test
+    void getCustomerByEmail_shouldNormalizeKeyAndShareIdCache() {
+        when(delegate.getCustomerByEmail("john@example.com")).thenReturn(Optional.of(sampleCustomer));
+
+        service.getCustomerByEmail("  JOHN@example.com ");
+        assertTrue(service.getCustomerByEmail("john@example.com").isPresent());
+        assertTrue(service.getCustomerById(customerId).isPresent());
+
+        verify(delegate, times(1)).getCustomerByEmail(any());
+        verify(delegate, never()).getCustomerById(any());
+    }
+
+    @Test
+    void updateCustomer_changingEmail_shouldInvalidateBothLookups() {
+        Customer renamed = sampleCustomer.toBuilder().emailAddress("jane@example.com").build();
+        when(delegate.getCustomerByEmail("john@example.com"))
+                .thenReturn(Optional.of(sampleCustomer))
+                .thenReturn(Optional.empty());
+        when(delegate.getCustomerById(customerId)).thenReturn(Optional.of(renamed));
+        when(delegate.updateCustomer(customerId, renamed, null)).thenReturn(renamed);
+
+        service.getCustomerByEmail("john@example.com");
+        service.updateCustomer(customerId, renamed, null);
+
+        assertTrue(service.getCustomerByEmail("john@example.com").isEmpty());
+        assertEquals("jane@example.com", service.getCustomerById(customerId).orElseThrow().getEmailAddress());
+    }
+
+    @Test
+    void patchCustomer_shouldEvictCustomer() {
+        Customer patched = sampleCustomer.toBuilder().contactNumber("+1987654321").build();
+        when(delegate.getCustomerById(customerId))
+                .thenReturn(Optional.of(sampleCustomer))
+                .thenReturn(Optional.of(patched));
+        when(delegate.patchCustomer(customerId, Map.of("contactNumber", "+1987654321"), null)).thenReturn(patched);
+
+        service.getCustomerById(customerId);
+        service.patchCustomer(customerId, Map.of("contactNumber", "+1987654321"), null);
+
+        assertEquals("+1987654321", service.getCustomerById(customerId).orElseThrow().getContactNumber());
+    }
+
+    @Test
+    void deleteCustomer_shouldEvictCustomer() {
+        when(delegate.getCustomerById(customerId))
+                .thenReturn(Optional.of(sampleCustomer))
+                .thenReturn(Optional.empty());
+
+        service.getCustomerById(customerId);
+        service.deleteCustomer(customerId);
+
+        assertTrue(service.getCustomerById(customerId).isEmpty());
+        assertFalse(service.existsById(customerId));
+    }
+
+    @Test
+    void existsById_cachedCustomer_shouldNotQueryDelegate() {
+        when(delegate.getCustomerById(customerId)).thenReturn(Optional.of(sampleCustomer));
+
+        service.getCustomerById(customerId);
+
+        assertTrue(service.existsById(customerId));
+        verify(delegate, never()).existsById(any());
+    }
+
+    @Test
+    void findExistingIds_shouldCheckOnlyUncachedIds() {
+        UUID otherId = UUID.randomUUID();
+        UUID unknownId = UUID.randomUUID();
+        when(delegate.getCustomerById(customerId)).thenReturn(Optional.of(sampleCustomer));
+        when(delegate.findExistingIds(any())).thenReturn(Set.of(otherId));
+        service.getCustomerById(customerId);
+
+        Set<UUID> existing = service.findExistingIds(List.of(unknownId, otherId, customerId));
+
+        assertEquals(List.of(otherId, customerId), List.copyOf(existing));
+        verify(delegate).findExistingIds(argThat(ids -> !ids.contains(customerId) && ids.size() == 2));
+    }
+}
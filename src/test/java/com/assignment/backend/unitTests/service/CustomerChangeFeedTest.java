@@ -0,0 +1,250 @@
+package com.assignment.backend.unitTests.service;
+
+import com.assignment.backend.dto.CustomerChangeEventDTO;
+import com.assignment.backend.dto.CustomerChangeType;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.exception.ServiceBusyException;
+import com.assignment.backend.service.impl.CustomerChangeFeed;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerChangeFeedTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CustomerChangeFeed feed = new CustomerChangeFeed(registry, 3, 2, 2, Duration.ofSeconds(30));
+
+    @Test
+    void publishedChanges_shouldReachSubscribersInOrder() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe(null, sink);
+        Customer customer = customer();
+
+        feed.publish(CustomerChangeType.CREATED, List.of(customer));
+        feed.publishDeleted(List.of(customer.getId()));
+
+        CustomerChangeEventDTO created = sink.next();
+        assertEquals(CustomerChangeType.CREATED, created.getType());
+        assertEquals(customer.getId(), created.getCustomerId());
+        assertEquals("ann@example.com", created.getCustomer().getEmailAddress());
+        assertEquals(3L, created.getVersion());
+        CustomerChangeEventDTO deleted = sink.next();
+        assertEquals(CustomerChangeType.DELETED, deleted.getType());
+        assertNull(deleted.getCustomer());
+        assertNotEquals(created.getId(), deleted.getId());
+        assertEquals(2.0, registry.get("customer.changes.events").counter().count());
+    }
+
+    @Test
+    void subscribeWithLastEventId_shouldFirstSendTheEventsMissedSince() throws Exception {
+        RecordingSink first = new RecordingSink();
+        CustomerChangeFeed.Subscription subscription = feed.subscribe(null, first);
+        feed.publish(CustomerChangeType.CREATED, List.of(customer()));
+        String lastSeen = first.next().getId();
+        subscription.cancel();
+
+        Customer updated = customer();
+        feed.publish(CustomerChangeType.UPDATED, List.of(updated));
+        feed.publishDeleted(List.of(updated.getId()));
+
+        RecordingSink resumed = new RecordingSink();
+        feed.subscribe(lastSeen, resumed);
+        assertEquals(CustomerChangeType.UPDATED, resumed.next().getType());
+        assertEquals(CustomerChangeType.DELETED, resumed.next().getType());
+        assertNull(resumed.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void subscribeWithEventIdNoLongerRetained_shouldSendReset() throws Exception {
+        RecordingSink first = new RecordingSink();
+        feed.subscribe(null, first);
+        feed.publish(CustomerChangeType.CREATED, List.of(customer()));
+        String lastSeen = first.next().getId();
+        feed.publish(CustomerChangeType.CREATED, List.of(customer(), customer(), customer(), customer()));
+
+        RecordingSink resumed = new RecordingSink();
+        feed.subscribe(lastSeen, resumed);
+        CustomerChangeEventDTO reset = resumed.next();
+        assertEquals(CustomerChangeType.RESET, reset.getType());
+
+        feed.publishDeleted(List.of(UUID.randomUUID()));
+        assertEquals(CustomerChangeType.DELETED, resumed.next().getType());
+    }
+
+    @Test
+    void subscribeWithEventIdFromAnotherRun_shouldSendReset() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe("0-5", sink);
+
+        assertEquals(CustomerChangeType.RESET, sink.next().getType());
+    }
+
+    @Test
+    void largestBatchDelete_shouldFitInTheBufferAndRetainedEvents() throws Exception {
+        CustomerChangeFeed small = new CustomerChangeFeed(registry, 100, 100, 2, Duration.ofSeconds(30));
+        RecordingSink sink = new RecordingSink();
+        small.subscribe(null, sink);
+        small.publish(CustomerChangeType.CREATED, List.of(customer()));
+        String beforeBurst = sink.next().getId();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        small.publishDeleted(ids);
+
+        List<UUID> announced = new ArrayList<>();
+        while (announced.size() < ids.size()) {
+            CustomerChangeEventDTO event = sink.next();
+            assertEquals(CustomerChangeType.BULK_DELETED, event.getType());
+            assertTrue(event.getCustomerIds().size() <= CustomerChangeFeed.MAX_IDS_PER_EVENT);
+            announced.addAll(event.getCustomerIds());
+        }
+        assertEquals(ids, announced);
+        assertEquals(0.0, registry.get("customer.changes.slow.disconnects").counter().count());
+
+        RecordingSink resumed = new RecordingSink();
+        small.subscribe(beforeBurst, resumed);
+        assertEquals(CustomerChangeType.BULK_DELETED, resumed.next().getType());
+    }
+
+    @Test
+    void singleDelete_shouldBeAnnouncedOnItsOwn() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe(null, sink);
+        UUID id = UUID.randomUUID();
+
+        feed.publishDeleted(List.of(id));
+
+        CustomerChangeEventDTO deleted = sink.next();
+        assertEquals(CustomerChangeType.DELETED, deleted.getType());
+        assertEquals(id, deleted.getCustomerId());
+        assertNull(deleted.getCustomerIds());
+    }
+
+    @Test
+    void slowSubscriber_shouldBeDisconnectedWithoutHoldingUpOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink slow = new RecordingSink() {
+            @Override
+            public void send(CustomerChangeEventDTO event) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(event);
+            }
+        };
+        CustomerChangeFeed.Subscription slowSubscription = feed.subscribe(null, slow);
+        RecordingSink fast = new RecordingSink();
+        feed.subscribe(null, fast);
+
+        List<String> received = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            feed.publish(CustomerChangeType.CREATED, List.of(customer()));
+            received.add(fast.next().getId());
+        }
+
+        assertTrue(slowSubscription.isClosed());
+        assertEquals(5, received.size());
+        assertEquals(1.0, registry.get("customer.changes.slow.disconnects").counter().count());
+        release.countDown();
+        assertTrue(slow.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, feed.getSubscriberCount());
+    }
+
+    @Test
+    void cancel_shouldCloseTheSink() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        CustomerChangeFeed.Subscription subscription = feed.subscribe(null, sink);
+
+        subscription.cancel();
+
+        assertTrue(sink.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, feed.getSubscriberCount());
+    }
+
+    @Test
+    void failingSink_shouldBeUnsubscribed() throws Exception {
+        RecordingSink broken = new RecordingSink() {
+            @Override
+            public void send(CustomerChangeEventDTO event) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        feed.subscribe(null, broken);
+
+        feed.publishDeleted(List.of(UUID.randomUUID()));
+
+        assertTrue(broken.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, feed.getSubscriberCount());
+    }
+
+    @Test
+    void subscribeBeyondMaximum_shouldThrowServiceBusy() {
+        feed.subscribe(null, new RecordingSink());
+        feed.subscribe(null, new RecordingSink());
+
+        assertThrows(ServiceBusyException.class, () -> feed.subscribe(null, new RecordingSink()));
+    }
+
+    @Test
+    void idleSubscriber_shouldReceiveHeartbeats() throws Exception {
+        CustomerChangeFeed heartbeating = new CustomerChangeFeed(registry, 3, 2, 2, Duration.ofMillis(20));
+        RecordingSink sink = new RecordingSink();
+        heartbeating.subscribe(null, sink);
+
+        assertTrue(sink.heartbeats.await(5, TimeUnit.SECONDS));
+    }
+
+    private static Customer customer() {
+        return Customer.builder()
+                .id(UUID.randomUUID())
+                .givenName("Ann")
+                .familyName("Lee")
+                .emailAddress("ann@example.com")
+                .contactNumber("+1234567890")
+                .version(3L)
+                .build();
+    }
+
+    private static class RecordingSink implements CustomerChangeFeed.Sink {
+
+        final BlockingQueue<CustomerChangeEventDTO> events = new LinkedBlockingQueue<>();
+        final CountDownLatch heartbeats = new CountDownLatch(2);
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public void send(CustomerChangeEventDTO event) throws IOException {
+            events.add(event);
+        }
+
+        @Override
+        public void heartbeat() {
+            heartbeats.countDown();
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        CustomerChangeEventDTO next() throws InterruptedException {
+            CustomerChangeEventDTO event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "No event within 5 seconds");
+            return event;
+        }
+    }
+}
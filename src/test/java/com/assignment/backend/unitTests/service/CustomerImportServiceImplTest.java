@@ -0,0 +1,164 @@
+package com.assignment.backend.unitTests.service;
+
+import com.assignment.backend.dto.BatchItemResultDTO;
+import com.assignment.backend.dto.BatchItemStatus;
+import com.assignment.backend.dto.ImportErrorDTO;
+import com.assignment.backend.dto.ImportJobDTO;
+import com.assignment.backend.dto.ImportJobStatus;
+import com.assignment.backend.entity.Customer;
+import com.assignment.backend.exception.ServiceBusyException;
+import com.assignment.backend.service.CustomerService;
+import com.assignment.backend.service.impl.CustomerImportServiceImpl;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class CustomerImportServiceImplTest {
+
+    private static final String HEADER = "givenName,middleName,familyName,emailAddress,contactNumber\n";
+
+    @Mock
+    private CustomerService customerService;
+    private ValidatorFactory validatorFactory;
+    private CustomerImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        importService = new CustomerImportServiceImpl(customerService, validatorFactory.getValidator(),
+                2, 1, 1, 100, 10);
+
+        when(customerService.createCustomers(anyList())).thenAnswer(invocation -> {
+            List<Customer> chunk = invocation.getArgument(0);
+            return IntStream.range(0, chunk.size())
+                    .mapToObj(i -> BatchItemResultDTO.builder()
+                            .index(i)
+                            .emailAddress(chunk.get(i).getEmailAddress())
+                            .status(chunk.get(i).getEmailAddress().startsWith("taken")
+                                    ? BatchItemStatus.CONFLICT
+                                    : BatchItemStatus.CREATED)
+                            .message("Email already in use")
+                            .build())
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void startImport_shouldCommitValidRowsInChunksAndReportFailures() throws Exception {
+        Path csv = writeCsv(HEADER
+                + "Ann,,Lee,ann@example.com,+1234567890\n"
+                + "\"Smith, Jr\",\"Q\",Doe,jr@example.com,+1234567891\r\n"
+                + "Bad,,Row,not-an-email,+1234567892\n"
+                + "Tom,,Kay,taken@example.com,+1234567893\n"
+                + "\n");
+
+        ImportJobDTO started = importService.startImport("customers.csv", csv);
+        ImportJobDTO finished = awaitFinished(started.getId());
+
+        assertEquals(ImportJobStatus.COMPLETED, finished.getStatus());
+        assertEquals(4, finished.getRowsProcessed());
+        assertEquals(2, finished.getRowsCreated());
+        assertEquals(2, finished.getRowsFailed());
+        assertTrue(finished.getRowsPerSecond() > 0);
+        verify(customerService, times(2)).createCustomers(anyList());
+        assertFalse(Files.exists(csv));
+
+        List<ImportErrorDTO> errors = importService.getErrors(started.getId()).orElseThrow();
+        assertEquals(4, errors.get(0).getLine());
+        assertTrue(errors.get(0).getMessage().startsWith("emailAddress"));
+        assertEquals(5, errors.get(1).getLine());
+        assertEquals("taken@example.com", errors.get(1).getEmailAddress());
+    }
+
+    @Test
+    void startImport_quotedFieldWithComma_shouldBeKeptWhole() throws Exception {
+        List<Customer> imported = new ArrayList<>();
+        when(customerService.createCustomers(anyList())).thenAnswer(invocation -> {
+            List<Customer> chunk = invocation.getArgument(0);
+            imported.addAll(chunk);
+            return List.of();
+        });
+
+        Path csv = writeCsv(HEADER + "\"Smith, \"\"Jr\"\"\",,Doe,jr@example.com,+1234567891\n");
+        awaitFinished(importService.startImport("quoted.csv", csv).getId());
+
+        assertEquals("Smith, \"Jr\"", imported.get(0).getGivenName());
+    }
+
+    @Test
+    void startImport_missingColumn_shouldFailJob() throws Exception {
+        Path csv = writeCsv("givenName,familyName\nAnn,Lee\n");
+
+        ImportJobDTO finished = awaitFinished(importService.startImport("bad.csv", csv).getId());
+
+        assertEquals(ImportJobStatus.FAILED, finished.getStatus());
+        assertTrue(finished.getFailureReason().contains("emailAddress"));
+        verify(customerService, never()).createCustomers(anyList());
+    }
+
+    @Test
+    void startImport_queueFull_shouldRejectWithServiceBusy() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(customerService.createCustomers(anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        String row = "Ann,,Lee,ann@example.com,+1234567890\n";
+
+        importService.startImport("running.csv", writeCsv(HEADER + row));
+        importService.startImport("queued.csv", writeCsv(HEADER + row));
+        Path rejected = writeCsv(HEADER + row);
+
+        assertThrows(ServiceBusyException.class, () -> importService.startImport("rejected.csv", rejected));
+        assertFalse(Files.exists(rejected));
+        release.countDown();
+    }
+
+    @Test
+    void getJob_unknownId_shouldBeEmpty() {
+        assertTrue(importService.getJob(UUID.randomUUID()).isEmpty());
+        assertTrue(importService.getErrors(UUID.randomUUID()).isEmpty());
+    }
+
+    private static Path writeCsv(String content) throws IOException {
+        Path file = Files.createTempFile("import-test-", ".csv");
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private ImportJobDTO awaitFinished(UUID jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            ImportJobDTO job = importService.getJob(jobId).orElseThrow();
+            if (job.getStatus() == ImportJobStatus.COMPLETED || job.getStatus() == ImportJobStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Import job did not finish in time");
+    }
+}
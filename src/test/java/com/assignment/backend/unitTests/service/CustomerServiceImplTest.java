@@ -1,21 +1,38 @@
 package com.assignment.backend.unitTests.service;
 
+import com.assignment.backend.dto.BatchItemResultDTO;
+import com.assignment.backend.dto.BatchItemStatus;
+import com.assignment.backend.dto.CustomerChangeType;
 import com.assignment.backend.entity.Customer;
 import com.assignment.backend.exception.CustomerNotFoundException;
 import com.assignment.backend.exception.DuplicateEmailException;
+import com.assignment.backend.exception.PreconditionFailedException;
+import com.assignment.backend.index.CustomerNameIndex;
+import com.assignment.backend.index.EmailBloomFilter;
 import com.assignment.backend.repository.CustomerRepository;
+import com.assignment.backend.service.impl.CustomerChangeFeed;
 import com.assignment.backend.service.impl.CustomerServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class CustomerServiceImplTest {
@@ -23,6 +40,14 @@ class CustomerServiceImplTest {
     private final UUID customerId = UUID.randomUUID();
     @Mock
     private CustomerRepository repository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private CustomerNameIndex nameIndex;
+    @Mock
+    private EmailBloomFilter emailFilter;
+    @Mock
+    private CustomerChangeFeed changeFeed;
     @InjectMocks
     private CustomerServiceImpl service;
     private Customer sampleCustomer;
@@ -30,6 +55,7 @@ class CustomerServiceImplTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(emailFilter.mightContain(any())).thenReturn(true);
 
         sampleCustomer = Customer.builder()
                 .id(customerId)
@@ -42,12 +68,29 @@ class CustomerServiceImplTest {
     }
 
     @Test
-    void getAllCustomers_shouldReturnList() {
-        when(repository.findAll()).thenReturn(List.of(sampleCustomer));
-        List<Customer> customers = service.getAllCustomers();
+    void getCustomersPage_firstPage_shouldScanFromStart() {
+        when(repository.findAllByOrderByIdAsc(Limit.of(10))).thenReturn(List.of(sampleCustomer));
+
+        List<Customer> page = service.getCustomersPage(null, 10);
+
+        assertEquals(1, page.size());
+        verify(repository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    @Test
+    void getCustomersPage_nextPage_shouldSeekPastCursor() {
+        UUID after = UUID.randomUUID();
+        when(repository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(10))).thenReturn(List.of(sampleCustomer));
 
-        assertEquals(1, customers.size());
-        assertEquals("John", customers.get(0).getGivenName());
+        List<Customer> page = service.getCustomersPage(after, 10);
+
+        assertEquals("John", page.get(0).getGivenName());
+        verify(repository, never()).findAllByOrderByIdAsc(any());
+    }
+
+    @Test
+    void getCustomersPage_nonPositiveSize_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> service.getCustomersPage(null, 0));
     }
 
     @Test
@@ -59,6 +102,18 @@ class CustomerServiceImplTest {
         assertEquals("john@example.com", found.get().getEmailAddress());
     }
 
+    @Test
+    void getCustomersById_shouldDeduplicateAndKeepRequestOrder() {
+        UUID otherId = UUID.randomUUID();
+        UUID unknownId = UUID.randomUUID();
+        Customer other = sampleCustomer.toBuilder().id(otherId).build();
+        when(repository.findAllById(List.of(otherId, customerId, unknownId))).thenReturn(List.of(sampleCustomer, other));
+
+        List<Customer> found = service.getCustomersById(List.of(otherId, customerId, otherId, unknownId));
+
+        assertEquals(List.of(other, sampleCustomer), found);
+    }
+
     @Test
     void getCustomerById_notFound() {
         when(repository.findById(customerId)).thenReturn(Optional.empty());
@@ -76,23 +131,113 @@ class CustomerServiceImplTest {
         assertEquals("Doe", result.get().getFamilyName());
     }
 
+    @Test
+    void getCustomerByEmail_ruledOutByFilter_shouldSkipQuery() {
+        when(emailFilter.mightContain("nobody@example.com")).thenReturn(false);
+
+        assertTrue(service.getCustomerByEmail(" Nobody@example.com").isEmpty());
+        verify(repository, never()).findByEmailAddress(any());
+    }
+
+    @Test
+    void getCustomerByEmail_filterFalsePositive_shouldBeRecorded() {
+        when(repository.findByEmailAddress("ghost@example.com")).thenReturn(Optional.empty());
+
+        assertTrue(service.getCustomerByEmail("ghost@example.com").isEmpty());
+        verify(emailFilter).recordFalsePositive();
+    }
+
+    @Test
+    void createCustomer_shouldAddEmailToFilterBeforeInsert() {
+        when(repository.saveAndFlush(any(Customer.class))).thenReturn(sampleCustomer);
+
+        service.createCustomer(sampleCustomer);
+
+        var order = inOrder(emailFilter, repository);
+        order.verify(emailFilter).put("john@example.com");
+        order.verify(repository).saveAndFlush(sampleCustomer);
+    }
+
     @Test
     void createCustomer_success() {
-        when(repository.existsByEmailAddress("john@example.com")).thenReturn(false);
-        when(repository.save(any(Customer.class))).thenReturn(sampleCustomer);
+        when(repository.saveAndFlush(any(Customer.class))).thenReturn(sampleCustomer);
 
         Customer created = service.createCustomer(sampleCustomer);
         assertNotNull(created);
         assertEquals("john@example.com", created.getEmailAddress());
-        verify(repository).save(any(Customer.class));
+        verify(repository).saveAndFlush(any(Customer.class));
+        verify(repository, never()).existsByEmailAddress(any());
+        verify(changeFeed).publish(CustomerChangeType.CREATED, List.of(sampleCustomer));
     }
 
     @Test
     void createCustomer_duplicateEmail_shouldThrow() {
-        when(repository.existsByEmailAddress("john@example.com")).thenReturn(true);
+        when(repository.saveAndFlush(any(Customer.class))).thenThrow(emailConstraintViolation());
+
+        DuplicateEmailException ex = assertThrows(DuplicateEmailException.class,
+                () -> service.createCustomer(sampleCustomer));
+        assertEquals("Email already in use: john@example.com", ex.getMessage());
+        verifyNoInteractions(changeFeed);
+    }
+
+    @Test
+    void createCustomer_duplicateEmailUnderGeneratedConstraintName_shouldThrow() {
+        when(repository.saveAndFlush(any(Customer.class))).thenThrow(new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key",
+                        new SQLException("duplicate key value violates unique constraint \"ukhk6ra1sxq3b2nbe4ys7ufpy4o\"\n"
+                                + "  Detail: Key (email_address)=(john@example.com) already exists."),
+                        "insert", ConstraintViolationException.ConstraintKind.UNIQUE, "ukhk6ra1sxq3b2nbe4ys7ufpy4o")));
 
         assertThrows(DuplicateEmailException.class, () -> service.createCustomer(sampleCustomer));
-        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void createCustomer_primaryKeyCollision_shouldPropagate() {
+        DataIntegrityViolationException keyCollision = new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key",
+                        new SQLException("duplicate key value violates unique constraint \"customers_pkey\"\n"
+                                + "  Detail: Key (id)=(0190a4c2-7b1e-7c3a-9f00-000000000001) already exists."),
+                        "insert", ConstraintViolationException.ConstraintKind.UNIQUE, "customers_pkey"));
+        when(repository.saveAndFlush(any(Customer.class))).thenThrow(keyCollision);
+
+        assertSame(keyCollision, assertThrows(DataIntegrityViolationException.class,
+                () -> service.createCustomer(sampleCustomer)));
+    }
+
+    @Test
+    void createCustomer_otherIntegrityViolation_shouldPropagate() {
+        DataIntegrityViolationException notNull = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null", new SQLException(), "given_name",
+                        ConstraintViolationException.ConstraintKind.OTHER, "nn_given_name"));
+        when(repository.saveAndFlush(any(Customer.class))).thenThrow(notNull);
+
+        assertSame(notNull, assertThrows(DataIntegrityViolationException.class,
+                () -> service.createCustomer(sampleCustomer)));
+    }
+
+    @Test
+    void createCustomers_shouldInsertNewAndReportConflicts() {
+        Customer fresh = sampleCustomer.toBuilder().id(null).emailAddress(" New@Example.com").build();
+        Customer existing = sampleCustomer.toBuilder().id(null).emailAddress("john@example.com").build();
+        Customer repeated = sampleCustomer.toBuilder().id(null).emailAddress("new@example.com").build();
+
+        when(repository.findExistingEmailAddresses(List.of("new@example.com", "john@example.com")))
+                .thenReturn(List.of("john@example.com"));
+        when(repository.saveAll(List.of(fresh))).thenAnswer(invocation -> {
+            fresh.setId(customerId);
+            return List.of(fresh);
+        });
+
+        List<BatchItemResultDTO> results = service.createCustomers(List.of(fresh, existing, repeated));
+
+        assertEquals(3, results.size());
+        assertEquals(BatchItemStatus.CREATED, results.get(0).getStatus());
+        assertEquals(customerId, results.get(0).getId());
+        assertEquals(BatchItemStatus.CONFLICT, results.get(1).getStatus());
+        assertEquals(BatchItemStatus.CONFLICT, results.get(2).getStatus());
+        assertEquals(2, results.get(2).getIndex());
+        verify(repository, never()).existsByEmailAddress(any());
+        verify(entityManager).flush();
     }
 
     @Test
@@ -105,7 +250,7 @@ class CustomerServiceImplTest {
         when(repository.findById(customerId)).thenReturn(Optional.of(sampleCustomer));
         when(repository.save(any(Customer.class))).thenReturn(updated);
 
-        Customer result = service.updateCustomer(customerId, updated);
+        Customer result = service.updateCustomer(customerId, updated, null);
 
         assertEquals("Updated", result.getGivenName());
     }
@@ -120,32 +265,167 @@ class CustomerServiceImplTest {
         when(repository.findById(customerId)).thenReturn(Optional.of(sampleCustomer));
         when(repository.existsByEmailAddress("different@example.com")).thenReturn(true);
 
-        assertThrows(DuplicateEmailException.class, () -> service.updateCustomer(customerId, updated));
+        assertThrows(DuplicateEmailException.class, () -> service.updateCustomer(customerId, updated, null));
         verify(repository, never()).save(any());
     }
 
+    @Test
+    void updateCustomer_newEmailRuledOutByFilter_shouldSkipExistenceQuery() {
+        Customer updated = sampleCustomer.toBuilder().emailAddress("fresh@example.com").build();
+        when(emailFilter.mightContain("fresh@example.com")).thenReturn(false);
+        when(repository.findById(customerId)).thenReturn(Optional.of(sampleCustomer));
+        when(repository.save(sampleCustomer)).thenReturn(sampleCustomer);
+
+        service.updateCustomer(customerId, updated, null);
+
+        verify(repository, never()).existsByEmailAddress(any());
+        verify(emailFilter).put("fresh@example.com");
+    }
+
+    @Test
+    void updateCustomer_staleExpectedVersion_shouldThrowPreconditionFailed() {
+        sampleCustomer.setVersion(4L);
+        when(repository.findById(customerId)).thenReturn(Optional.of(sampleCustomer));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> service.updateCustomer(customerId, sampleCustomer.toBuilder().givenName("Jack").build(), 3L));
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void updateCustomer_concurrentWriteWithoutExpectedVersion_shouldThrowOptimisticLockingFailure() {
+        when(repository.findById(customerId)).thenReturn(Optional.of(sampleCustomer));
+        when(repository.save(sampleCustomer)).thenReturn(sampleCustomer);
+        doThrow(new OptimisticLockException("Row was updated by another transaction")).when(entityManager).flush();
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> service.updateCustomer(customerId, sampleCustomer.toBuilder().givenName("Jack").build(), null));
+        verifyNoInteractions(changeFeed);
+    }
+
     @Test
     void updateCustomer_notFound_shouldThrow() {
         when(repository.findById(customerId)).thenReturn(Optional.empty());
 
-        assertThrows(CustomerNotFoundException.class, () -> service.updateCustomer(customerId, sampleCustomer));
+        assertThrows(CustomerNotFoundException.class, () -> service.updateCustomer(customerId, sampleCustomer, null));
     }
 
     @Test
-    void deleteCustomer_success() {
+    void patchCustomer_shouldIssueSingleUpdateAndReturnStoredCustomer() {
+        when(repository.updateAttributes(customerId, Map.of("emailAddress", "new@example.com"), null)).thenReturn(1);
+        when(repository.findById(customerId)).thenReturn(Optional.of(sampleCustomer));
+
+        Customer result = service.patchCustomer(customerId, Map.of("emailAddress", " NEW@example.com"), null);
+
+        assertSame(sampleCustomer, result);
+        verify(repository, never()).save(any());
+        verify(repository, never()).existsByEmailAddress(any());
+    }
+
+    @Test
+    void patchCustomer_noRowUpdated_shouldThrowNotFound() {
+        when(repository.updateAttributes(customerId, Map.of("contactNumber", "+1987654321"), null)).thenReturn(0);
+
+        assertThrows(CustomerNotFoundException.class,
+                () -> service.patchCustomer(customerId, Map.of("contactNumber", "+1987654321"), null));
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void patchCustomer_staleExpectedVersion_shouldThrowPreconditionFailed() {
+        when(repository.updateAttributes(customerId, Map.of("contactNumber", "+1987654321"), 3L)).thenReturn(0);
         when(repository.existsById(customerId)).thenReturn(true);
-        doNothing().when(repository).deleteById(customerId);
+
+        assertThrows(PreconditionFailedException.class,
+                () -> service.patchCustomer(customerId, Map.of("contactNumber", "+1987654321"), 3L));
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void patchCustomer_emailTaken_shouldThrowDuplicate() {
+        when(repository.updateAttributes(eq(customerId), any(), any())).thenThrow(emailConstraintViolation());
+
+        assertThrows(DuplicateEmailException.class,
+                () -> service.patchCustomer(customerId, Map.of("emailAddress", "taken@example.com"), null));
+    }
+
+    @Test
+    void deleteCustomer_success() {
+        when(repository.removeById(customerId)).thenReturn(1);
 
         assertDoesNotThrow(() -> service.deleteCustomer(customerId));
-        verify(repository).deleteById(customerId);
+        verify(repository, never()).existsById(any());
+        verify(repository, never()).deleteById(any());
+        verify(changeFeed).publishDeleted(List.of(customerId));
     }
 
     @Test
     void deleteCustomer_notFound_shouldThrow() {
-        when(repository.existsById(customerId)).thenReturn(false);
+        when(repository.removeById(customerId)).thenReturn(0);
 
         assertThrows(CustomerNotFoundException.class, () -> service.deleteCustomer(customerId));
-        verify(repository, never()).deleteById(any());
+    }
+
+    @Test
+    void deleteCustomers_shouldDeleteExistingAndReportMissing() {
+        UUID missing = UUID.randomUUID();
+        when(repository.lockExistingIds(List.of(customerId, missing))).thenReturn(List.of(customerId));
+        when(repository.removeAllByIdIn(List.of(customerId))).thenReturn(1);
+
+        List<BatchItemResultDTO> results = service.deleteCustomers(List.of(customerId, missing, customerId));
+
+        verify(repository).removeAllByIdIn(List.of(customerId));
+        assertEquals(3, results.size());
+        assertEquals(BatchItemStatus.DELETED, results.get(0).getStatus());
+        assertEquals(missing, results.get(1).getId());
+        assertEquals(BatchItemStatus.NOT_FOUND, results.get(1).getStatus());
+        assertEquals(2, results.get(2).getIndex());
+        assertEquals(BatchItemStatus.DELETED, results.get(2).getStatus());
+        verify(changeFeed).publishDeleted(Set.of(customerId));
+    }
+
+    @Test
+    void deleteCustomers_deleteCountDiffersFromLockedRows_shouldFail() {
+        when(repository.lockExistingIds(List.of(customerId))).thenReturn(List.of(customerId));
+        when(repository.removeAllByIdIn(List.of(customerId))).thenReturn(0);
+
+        assertThrows(IllegalStateException.class, () -> service.deleteCustomers(List.of(customerId)));
+        verifyNoInteractions(changeFeed);
+    }
+
+    @Test
+    void deleteCustomers_noneExisting_shouldNotDelete() {
+        when(repository.lockExistingIds(any())).thenReturn(List.of());
+
+        List<BatchItemResultDTO> results = service.deleteCustomers(List.of(customerId));
+
+        assertEquals(BatchItemStatus.NOT_FOUND, results.get(0).getStatus());
+        verify(repository, never()).removeAllByIdIn(any());
+    }
+
+    @Test
+    void findExistingIds_shouldKeepRequestOrder() {
+        UUID otherId = UUID.randomUUID();
+        UUID unknownId = UUID.randomUUID();
+        when(repository.findExistingIds(List.of(otherId, unknownId, customerId))).thenReturn(List.of(customerId, otherId));
+
+        Set<UUID> existing = service.findExistingIds(List.of(otherId, unknownId, customerId, otherId));
+
+        assertEquals(List.of(otherId, customerId), List.copyOf(existing));
+        verify(repository, never()).findAllById(any());
+    }
+
+    @Test
+    void findExistingEmails_shouldQueryOnlyEmailsTheFilterCannotRuleOut() {
+        when(emailFilter.mightContain("nobody@example.com")).thenReturn(false);
+        when(repository.findExistingEmailAddresses(List.of("john@example.com", "ghost@example.com")))
+                .thenReturn(List.of("john@example.com"));
+
+        Set<String> existing = service.findExistingEmails(
+                List.of("John@Example.com", "nobody@example.com", "ghost@example.com"));
+
+        assertEquals(Set.of("John@Example.com"), existing);
+        verify(emailFilter, times(1)).recordFalsePositive();
     }
 
     @Test
@@ -165,8 +445,7 @@ class CustomerServiceImplTest {
                 .emailAddress("  JoHN@EXAMPLE.Com ")
                 .build();
 
-        when(repository.existsByEmailAddress("john@example.com")).thenReturn(false);
-        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         Customer created = service.createCustomer(input);
 
@@ -187,7 +466,7 @@ class CustomerServiceImplTest {
         when(repository.findById(customerId)).thenReturn(Optional.of(sampleCustomer));
         when(repository.save(any())).thenReturn(updated);
 
-        Customer result = service.updateCustomer(customerId, updated);
+        Customer result = service.updateCustomer(customerId, updated, null);
 
         assertEquals("Jane", result.getGivenName());
         assertEquals("john@example.com", result.getEmailAddress());
@@ -207,11 +486,17 @@ class CustomerServiceImplTest {
         when(repository.findById(customerId)).thenReturn(Optional.of(sampleCustomer));
         when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
-        Customer result = service.updateCustomer(customerId, updated);
+        Customer result = service.updateCustomer(customerId, updated, null);
 
         assertEquals("john@example.com", result.getEmailAddress());
     }
 
+    private static DataIntegrityViolationException emailConstraintViolation() {
+        return new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException(), "insert",
+                        ConstraintViolationException.ConstraintKind.UNIQUE, Customer.EMAIL_UNIQUE_CONSTRAINT));
+    }
+
     @Test
     void existsById_shouldReturnFalse() {
         when(repository.existsById(customerId)).thenReturn(false);